@@ -34,6 +34,7 @@ public class ApplicationConfiguration {
     private ErrorMessage sessionExpiredError;
     private int heartbeatInterval;
     private int maxMessageSuspendTimeout;
+    private int maxPipelinedRequests = 1;
 
     private boolean productionMode;
     private boolean requestTiming;
@@ -206,6 +207,29 @@ public class ApplicationConfiguration {
         this.maxMessageSuspendTimeout = maxMessageSuspendTimeout;
     }
 
+    /**
+     * Gets the maximum number of requests that may be waiting for a response
+     * from the server at the same time.
+     *
+     * @return the maximum number of outstanding requests, <code>1</code> if
+     *         requests are not pipelined
+     */
+    public int getMaxPipelinedRequests() {
+        return maxPipelinedRequests;
+    }
+
+    /**
+     * Sets the maximum number of requests that may be waiting for a response
+     * from the server at the same time.
+     *
+     * @param maxPipelinedRequests
+     *            the maximum number of outstanding requests, <code>1</code>
+     *            to not pipeline requests
+     */
+    public void setMaxPipelinedRequests(int maxPipelinedRequests) {
+        this.maxPipelinedRequests = maxPipelinedRequests;
+    }
+
     /**
      * Gets the message used when a session expiration error occurs.
      *
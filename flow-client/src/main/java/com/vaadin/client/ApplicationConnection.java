@@ -25,10 +25,12 @@ import com.vaadin.client.communication.ReconnectDialogConfiguration;
 import com.vaadin.client.flow.RouterLinkHandler;
 import com.vaadin.client.flow.StateNode;
 import com.vaadin.client.flow.binding.Binder;
+import com.vaadin.client.flow.reactive.Reactive;
 
 import elemental.client.Browser;
 import elemental.dom.Element;
 import elemental.dom.Node;
+import elemental.json.JsonObject;
 
 /**
  * Main class for an application / UI.
@@ -54,6 +56,9 @@ public class ApplicationConnection {
         GWT.setUncaughtExceptionHandler(
                 registry.getSystemErrorHandler()::handleError);
 
+        registry.getRequestResponseTracker().setMaxActiveRequests(
+                applicationConfiguration.getMaxPipelinedRequests());
+
         StateNode rootNode = registry.getStateTree().getRootNode();
 
         // Bind UI configuration objects
@@ -228,9 +233,29 @@ public class ApplicationConnection {
             var registry = ap.@ApplicationConnection::registry;
             return registry.@com.vaadin.client.Registry::getStateTree()().@com.vaadin.client.flow.StateTree::getRootNode()().@com.vaadin.client.flow.StateNode::getDebugJson()();
         });
+        client.getStatistics = $entry(function() {
+            return ap.@com.vaadin.client.ApplicationConnection::getStatistics()();
+        });
 
     }-*/;
 
+    /**
+     * Gets statistics about the memory related state kept by the client
+     * engine and the time spent processing server messages. Used by the native
+     * "client.getStatistics" function which is only published when not
+     * running in production mode.
+     *
+     * @return a JSON object with the statistics
+     */
+    private JsonObject getStatistics() {
+        JsonObject statistics = registry.getStateTree().getStatistics();
+        statistics.put("pendingFlushListeners",
+                Reactive.getPendingFlushListenerCount());
+        statistics.put("messages",
+                registry.getMessageHandler().getProcessingStatistics());
+        return statistics;
+    }
+
     /**
      * Checks if deferred commands are (potentially) still being executed as a
      * result of an update from the server. Returns true if a deferred command
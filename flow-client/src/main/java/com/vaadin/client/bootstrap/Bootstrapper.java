@@ -153,6 +153,12 @@ public class Bootstrapper implements EntryPoint {
         conf.setMaxMessageSuspendTimeout(
                 jsoConfiguration.getConfigInteger("maxMessageSuspendTimeout"));
 
+        Integer maxPipelinedRequests = jsoConfiguration
+                .getConfigInteger("maxPipelinedRequests");
+        if (maxPipelinedRequests != null) {
+            conf.setMaxPipelinedRequests(maxPipelinedRequests.intValue());
+        }
+
         conf.setServletVersion(jsoConfiguration.getVaadinVersion());
         conf.setAtmosphereVersion(jsoConfiguration.getAtmosphereVersion());
         conf.setAtmosphereJSVersion(jsoConfiguration.getAtmosphereJSVersion());
@@ -28,6 +28,9 @@ import com.vaadin.client.UILifecycle;
 import com.vaadin.client.UILifecycle.UIState;
 import com.vaadin.client.WidgetUtil;
 import com.vaadin.client.communication.AtmospherePushConnection.AtmosphereResponse;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.flow.shared.ApplicationConstants;
 
 import elemental.json.JsonObject;
 
@@ -53,6 +56,15 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
     private Type reconnectionCause = null;
 
     private Timer scheduledReconnect;
+
+    /*
+     * With pipelining, several requests may fail. The failed payloads are
+     * re-sent together, ordered by their client to server id, and the next
+     * attempt is scheduled only when all re-sent payloads have failed again.
+     */
+    private final JsArray<JsonObject> failedPayloads = JsCollections.array();
+    private final JsArray<JsonObject> resentPayloads = JsCollections.array();
+
     private Timer dialogShowTimer = new Timer() {
 
         @Override
@@ -185,6 +197,11 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
             return;
         }
 
+        if (payload != null) {
+            resentPayloads.remove(payload);
+            addFailedPayload(payload);
+        }
+
         if (!isReconnecting()) {
             // First problem encounter
             reconnectionCause = type;
@@ -199,6 +216,9 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
             // Show dialog after grace period, still continue to try to
             // reconnect even before it is shown
             dialogShowTimer.schedule(getConfiguration().getDialogGracePeriod());
+
+            // Do not start new requests until the failed ones have been sent
+            registry.getRequestResponseTracker().setPipeliningSuspended(true);
         } else {
             // We are currently trying to reconnect
             // Priority is HEARTBEAT -> PUSH -> XHR
@@ -215,6 +235,12 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
             return;
         }
 
+        if (payload != null && (scheduledReconnect != null
+                || !resentPayloads.isEmpty())) {
+            // Re-sent with the other failed payloads
+            return;
+        }
+
         reconnectAttempt++;
         Console.log("Reconnect attempt " + reconnectAttempt + " for " + type);
 
@@ -275,8 +301,10 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
             return;
         }
         if (payload != null) {
-            Console.log("Re-sending last message to the server...");
-            registry.getMessageSender().send(payload);
+            if (failedPayloads.isEmpty()) {
+                addFailedPayload(payload);
+            }
+            resendFailedPayloads();
         } else {
             // Use heartbeat
             Console.log("Trying to re-establish server connection...");
@@ -284,6 +312,43 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
         }
     }
 
+    private void addFailedPayload(JsonObject payload) {
+        int id = getClientToServerId(payload);
+        int index = 0;
+        while (index < failedPayloads.length()) {
+            int otherId = getClientToServerId(failedPayloads.get(index));
+            if (otherId == id) {
+                // Already waiting to be re-sent
+                return;
+            } else if (otherId > id) {
+                break;
+            }
+            index++;
+        }
+        failedPayloads.splice(index, 0, payload);
+    }
+
+    private static int getClientToServerId(JsonObject payload) {
+        if (!payload.hasKey(ApplicationConstants.CLIENT_TO_SERVER_ID)) {
+            return -1;
+        }
+        return (int) payload
+                .getNumber(ApplicationConstants.CLIENT_TO_SERVER_ID);
+    }
+
+    private void resendFailedPayloads() {
+        if (failedPayloads.isEmpty()) {
+            return;
+        }
+        Console.log("Re-sending " + failedPayloads.length()
+                + " message(s) to the server...");
+        while (!failedPayloads.isEmpty()) {
+            JsonObject payload = failedPayloads.shift();
+            resentPayloads.push(payload);
+            registry.getMessageSender().send(payload);
+        }
+    }
+
     /**
      * Called whenever a reconnect attempt fails to allow updating of dialog
      * contents.
@@ -298,10 +363,15 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
      */
     protected final void giveUp() {
         reconnectionCause = null;
+        failedPayloads.clear();
+        resentPayloads.clear();
 
-        if (registry.getRequestResponseTracker().hasActiveRequest()) {
+        // Every pipelined request that did not get a response is ended
+        RequestResponseTracker tracker = registry.getRequestResponseTracker();
+        while (tracker.hasActiveRequest()) {
             endRequest();
         }
+        tracker.setPipeliningSuspended(false);
 
         stopDialogTimer();
         if (!isDialogVisible()) {
@@ -532,6 +602,12 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
         hideDialog();
 
         Console.log("Re-established connection to server");
+
+        resentPayloads.clear();
+        // Payloads of pipelined requests that failed while waiting for the
+        // re-sent ones
+        resendFailedPayloads();
+        registry.getRequestResponseTracker().setPipeliningSuspended(false);
     }
 
     @Override
@@ -42,6 +42,7 @@ import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.LoadMode;
 
 import elemental.dom.Node;
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
@@ -95,6 +96,16 @@ public class MessageHandler {
      */
     protected int totalProcessingTime;
 
+    /**
+     * Holds the longest time spent rendering a single request.
+     */
+    protected int maxProcessingTime;
+
+    /**
+     * Holds the number of handled messages.
+     */
+    protected int processedMessageCount;
+
     /**
      * Holds the time it took to load the page and render the first view. -2
      * means that this value has not yet been calculated because the first view
@@ -433,6 +444,9 @@ public class MessageHandler {
 
             lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
             totalProcessingTime += lastProcessingTime;
+            maxProcessingTime = Math.max(maxProcessingTime,
+                    lastProcessingTime);
+            processedMessageCount++;
             if (!initialMessageHandled) {
                 initialMessageHandled = true;
 
@@ -500,6 +514,22 @@ public class MessageHandler {
         }
     }-*/;
 
+    /**
+     * Gets statistics about the handled messages: the number of messages and
+     * the last, total and maximum processing time in milliseconds. Only
+     * intended for debugging purposes.
+     *
+     * @return a JSON object with the statistics
+     */
+    public JsonObject getProcessingStatistics() {
+        JsonObject statistics = Json.createObject();
+        statistics.put("count", processedMessageCount);
+        statistics.put("lastTime", lastProcessingTime);
+        statistics.put("totalTime", totalProcessingTime);
+        statistics.put("maxTime", maxProcessingTime);
+        return statistics;
+    }
+
     private void endRequestIfResponse(ValueMap json) {
         if (isResponse(json)) {
             // End the request if the received message was a
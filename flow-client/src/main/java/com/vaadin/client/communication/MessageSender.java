@@ -57,11 +57,13 @@ public class MessageSender {
     }
 
     /**
-     * Sends any pending invocations to the server if there is no request in
-     * progress and the application is running.
+     * Sends any pending invocations to the server if another request can be
+     * started and the application is running.
      * <p>
-     * If a request is in progress, this method does nothing and assumes that it
-     * is called again when the request completes.
+     * If the maximum number of requests is in progress, this method does
+     * nothing and assumes that it is called again when a request completes.
+     *
+     * @see RequestResponseTracker#canStartRequest()
      */
     public void sendInvocationsToServer() {
         if (!registry.getUILifecycle().isRunning()) {
@@ -70,10 +72,10 @@ public class MessageSender {
             return;
         }
 
-        if (registry.getRequestResponseTracker().hasActiveRequest()
+        if (!registry.getRequestResponseTracker().canStartRequest()
                 || (push != null && !push.isActive())) {
-            // There is an active request or push is enabled but not active
-            // -> send when current request completes or push becomes active
+            // Too many active requests or push is enabled but not active
+            // -> send when a request completes or push becomes active
         } else {
             doSendInvocationsToServer();
         }
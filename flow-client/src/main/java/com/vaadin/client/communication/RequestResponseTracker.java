@@ -36,7 +36,9 @@ import com.vaadin.client.gwt.com.google.web.bindery.event.shared.SimpleEventBus;
  */
 public class RequestResponseTracker {
 
-    private boolean hasActiveRequest = false;
+    private int activeRequestCount = 0;
+    private int maxActiveRequests = 1;
+    private boolean pipeliningSuspended = false;
     private final Registry registry;
     private EventBus eventBus = new SimpleEventBus();
 
@@ -53,17 +55,17 @@ public class RequestResponseTracker {
     /**
      * Marks that a new request has started.
      * <p>
-     * Should not be called when a request is in progress, i.e.
-     * {@link #startRequest()} has been called but not {@link #endRequest()}.
+     * Should not be called when the maximum number of requests is in progress,
+     * i.e. {@link #canStartRequest()} returns <code>false</code>.
      * <p>
      * Fires a {@link RequestStartingEvent}.
      */
     public void startRequest() {
-        if (hasActiveRequest) {
+        if (!canStartRequest()) {
             throw new IllegalStateException(
                     "Trying to start a new request while another is active");
         }
-        hasActiveRequest = true;
+        activeRequestCount++;
         fireEvent(new RequestStartingEvent());
     }
 
@@ -83,7 +85,48 @@ public class RequestResponseTracker {
      * @return true if there is an active request, false otherwise
      */
     public boolean hasActiveRequest() {
-        return hasActiveRequest;
+        return activeRequestCount > 0;
+    }
+
+    /**
+     * Checks whether a new request can be started, i.e. whether fewer than the
+     * maximum number of requests are waiting for a response.
+     *
+     * @return <code>true</code> if a new request can be started,
+     *         <code>false</code> otherwise
+     * @see #setMaxActiveRequests(int)
+     */
+    public boolean canStartRequest() {
+        int max = pipeliningSuspended ? 1 : maxActiveRequests;
+        return activeRequestCount < max;
+    }
+
+    /**
+     * Sets whether only one request at a time is allowed regardless of the
+     * maximum number of active requests. Used while trying to reconnect so
+     * that no new requests are started until the failed ones have been
+     * handled.
+     *
+     * @param pipeliningSuspended
+     *            <code>true</code> to allow only one active request,
+     *            <code>false</code> to allow the configured maximum
+     * @see #setMaxActiveRequests(int)
+     */
+    public void setPipeliningSuspended(boolean pipeliningSuspended) {
+        this.pipeliningSuspended = pipeliningSuspended;
+    }
+
+    /**
+     * Sets the maximum number of requests that can be waiting for a response
+     * at the same time. The default is <code>1</code>, i.e. a new request is
+     * only sent after the response to the previous one has been handled.
+     *
+     * @param maxActiveRequests
+     *            the maximum number of active requests, at least
+     *            <code>1</code>
+     */
+    public void setMaxActiveRequests(int maxActiveRequests) {
+        this.maxActiveRequests = Math.max(1, maxActiveRequests);
     }
 
     /**
@@ -97,14 +140,13 @@ public class RequestResponseTracker {
      * Fires a {@link ResponseHandlingEndedEvent}.
      */
     public void endRequest() {
-        if (!hasActiveRequest) {
+        if (!hasActiveRequest()) {
             throw new IllegalStateException(
                     "endRequest called when no request is active");
         }
         // After sendInvocationsToServer() there may be a new active
-        // request, so we must set hasActiveRequest to false before, not after,
-        // the call.
-        hasActiveRequest = false;
+        // request, so we must decrease the count before, not after, the call.
+        activeRequestCount--;
 
         if (registry.getUILifecycle().isRunning()
                 && registry.getServerRpcQueue().isFlushPending()) {
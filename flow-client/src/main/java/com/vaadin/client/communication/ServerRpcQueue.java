@@ -18,9 +18,12 @@ package com.vaadin.client.communication;
 import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.Console;
 import com.vaadin.client.Registry;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -56,6 +59,12 @@ public class ServerRpcQueue {
 
     /**
      * Adds an explicit RPC method invocation to the send queue.
+     * <p>
+     * A property synchronization invocation replaces a pending
+     * synchronization of the same node property, unless some other kind of
+     * invocation has been queued after it. Since invocations are queued while
+     * a previous request is waiting for its response, rapid changes to the
+     * same property are collapsed more the slower the server responds.
      *
      * @param invocation
      *            RPC method invocation
@@ -66,9 +75,45 @@ public class ServerRpcQueue {
                     "Trying to invoke method on not yet started or stopped application");
             return;
         }
+        if (isMapSync(invocation)) {
+            removeSupersededMapSync((JsonObject) invocation);
+        }
         pendingInvocations.set(pendingInvocations.length(), invocation);
     }
 
+    private void removeSupersededMapSync(JsonObject invocation) {
+        for (int i = pendingInvocations.length() - 1; i >= 0; i--) {
+            JsonValue pending = pendingInvocations.get(i);
+            if (!isMapSync(pending)) {
+                // Other invocations might depend on the previous value
+                return;
+            }
+            if (isSameProperty((JsonObject) pending, invocation)) {
+                pendingInvocations.remove(i);
+                return;
+            }
+        }
+    }
+
+    private static boolean isMapSync(JsonValue invocation) {
+        if (invocation.getType() != JsonType.OBJECT) {
+            return false;
+        }
+        JsonObject object = (JsonObject) invocation;
+        return object.hasKey(JsonConstants.RPC_TYPE)
+                && JsonConstants.RPC_TYPE_MAP_SYNC
+                        .equals(object.getString(JsonConstants.RPC_TYPE));
+    }
+
+    private static boolean isSameProperty(JsonObject sync1, JsonObject sync2) {
+        return sync1.getNumber(JsonConstants.RPC_NODE) == sync2
+                .getNumber(JsonConstants.RPC_NODE)
+                && sync1.getNumber(JsonConstants.RPC_FEATURE) == sync2
+                        .getNumber(JsonConstants.RPC_FEATURE)
+                && sync1.getString(JsonConstants.RPC_PROPERTY)
+                        .equals(sync2.getString(JsonConstants.RPC_PROPERTY));
+    }
+
     /**
      * Clears the queue.
      */
@@ -142,6 +142,17 @@ public class StateNode {
         return features.has(Double.valueOf(id));
     }
 
+    /**
+     * Gets the number of registered unregister listeners. Bindings register
+     * such listeners for releasing their resources, so the count is an
+     * indication of the amount of binding related state kept for the node.
+     *
+     * @return the number of unregister listeners
+     */
+    public int getUnregisterListenerCount() {
+        return unregisterListeners.size();
+    }
+
     /**
      * Iterates all features in this node.
      *
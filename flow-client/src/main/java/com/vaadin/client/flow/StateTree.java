@@ -29,6 +29,7 @@ import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
 
 import elemental.dom.Node;
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
@@ -224,6 +225,44 @@ public class StateTree {
         return idToNode.get(key);
     }
 
+    /**
+     * Gets the number of nodes registered in this tree.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return idToNode.size();
+    }
+
+    /**
+     * Gets statistics about the registered nodes: the total node count, the
+     * number of nodes having each feature, keyed by feature id, and the total
+     * number of node unregister listeners. Only intended for debugging
+     * purposes.
+     *
+     * @return a JSON object with the statistics
+     */
+    public JsonObject getStatistics() {
+        JsonObject nodesByFeature = Json.createObject();
+        double[] listenerCount = new double[1];
+        idToNode.forEach((node, id) -> {
+            node.forEachFeature((feature, featureId) -> {
+                String key = String.valueOf(featureId.intValue());
+                double count = nodesByFeature.hasKey(key)
+                        ? nodesByFeature.getNumber(key)
+                        : 0;
+                nodesByFeature.put(key, count + 1);
+            });
+            listenerCount[0] += node.getUnregisterListenerCount();
+        });
+
+        JsonObject statistics = Json.createObject();
+        statistics.put("nodes", getNodeCount());
+        statistics.put("nodesByFeature", nodesByFeature);
+        statistics.put("unregisterListeners", listenerCount[0]);
+        return statistics;
+    }
+
     /**
      * Gets the root node of this tree.
      *
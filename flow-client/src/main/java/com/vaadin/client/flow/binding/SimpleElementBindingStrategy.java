@@ -31,6 +31,7 @@ import com.vaadin.client.ExistingElementMap;
 import com.vaadin.client.InitialPropertiesHandler;
 import com.vaadin.client.LitUtils;
 import com.vaadin.client.PolymerUtils;
+import com.vaadin.client.Profiler;
 import com.vaadin.client.WidgetUtil;
 import com.vaadin.client.flow.ConstantPool;
 import com.vaadin.client.flow.StateNode;
@@ -58,6 +59,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.client.Browser;
 import elemental.css.CSSStyleDeclaration;
+import elemental.dom.DocumentFragment;
 import elemental.dom.Element;
 import elemental.dom.Node;
 import elemental.events.Event;
@@ -743,6 +745,10 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             removeAllChildren(context.htmlNode);
         }
 
+        Profiler.enter("SimpleElementBindingStrategy.bindChildren");
+
+        // Collect new children in a fragment to insert them in one operation
+        DocumentFragment fragment = null;
         for (int i = 0; i < children.length(); i++) {
             StateNode childNode = (StateNode) children.get(i);
 
@@ -755,9 +761,17 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 context.binderContext.createAndBind(childNode);
             } else {
                 child = context.binderContext.createAndBind(childNode);
-                DomApi.wrap(context.htmlNode).appendChild(child);
+                if (fragment == null) {
+                    fragment = Browser.getDocument().createDocumentFragment();
+                }
+                fragment.appendChild(child);
             }
         }
+        if (fragment != null) {
+            DomApi.wrap(context.htmlNode).appendChild(fragment);
+        }
+
+        Profiler.leave("SimpleElementBindingStrategy.bindChildren");
 
         return children.addSpliceListener(e -> {
             /*
@@ -1044,6 +1058,14 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             beforeRef = null;
         }
 
+        Profiler.enter("SimpleElementBindingStrategy.addChildren");
+
+        /*
+         * Consecutive new children are collected in a fragment which is
+         * inserted in one operation when an existing element is encountered
+         * or all children have been handled.
+         */
+        DocumentFragment fragment = null;
         for (int i = 0; i < add.length(); i++) {
             Object newChildObject = add.get(i);
             StateNode newChild = (StateNode) newChildObject;
@@ -1055,15 +1077,27 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 existingElementMap.remove(newChild.getId());
                 newChild.setDomNode(childNode);
                 context.binderContext.createAndBind(newChild);
+
+                if (fragment != null) {
+                    DomApi.wrap(context.htmlNode).insertBefore(fragment,
+                            beforeRef);
+                    fragment = null;
+                }
+                beforeRef = DomApi.wrap(childNode).getNextSibling();
             } else {
                 childNode = context.binderContext.createAndBind(newChild);
 
-                DomApi.wrap(context.htmlNode).insertBefore(childNode,
-                        beforeRef);
+                if (fragment == null) {
+                    fragment = Browser.getDocument().createDocumentFragment();
+                }
+                fragment.appendChild(childNode);
             }
-
-            beforeRef = DomApi.wrap(childNode).getNextSibling();
         }
+        if (fragment != null) {
+            DomApi.wrap(context.htmlNode).insertBefore(fragment, beforeRef);
+        }
+
+        Profiler.leave("SimpleElementBindingStrategy.addChildren");
     }
 
     private static Node getFirstNodeMappedAsStateNode(
@@ -129,6 +129,18 @@ public class Reactive {
         return flushListeners != null && !flushListeners.isEmpty();
     }
 
+    /**
+     * Gets the number of flush and post flush listeners waiting for the next
+     * {@link #flush()}.
+     *
+     * @return the number of pending flush listeners
+     */
+    public static int getPendingFlushListenerCount() {
+        return (flushListeners == null ? 0 : flushListeners.length())
+                + (postFlushListeners == null ? 0
+                        : postFlushListeners.length());
+    }
+
     /**
      * Gets the currently active computation. Any reactive value that is
      * accessed when a computation is active should be added as a dependency to
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.core.client.impl.SchedulerImpl;
+
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.client.CustomScheduler;
+import com.vaadin.client.LoadingIndicator;
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Tests the handling of pipelined requests when the connection to the server
+ * fails.
+ */
+public class GwtDefaultConnectionStateHandlerTest extends ClientEngineTestBase {
+
+    private static final int RECONNECT_ATTEMPTS = 3;
+
+    private Registry registry;
+    private RequestResponseTracker tracker;
+    private DefaultConnectionStateHandler handler;
+    private List<JsonObject> sent;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+
+        initScheduler(new CustomScheduler());
+
+        sent = new ArrayList<>();
+        registry = new Registry() {
+            {
+                UILifecycle uiLifecycle = new UILifecycle();
+                uiLifecycle.setState(UIState.RUNNING);
+                set(UILifecycle.class, uiLifecycle);
+                set(LoadingIndicator.class, new LoadingIndicator());
+                set(ServerRpcQueue.class, new ServerRpcQueue(this));
+                set(RequestResponseTracker.class,
+                        new RequestResponseTracker(this));
+                set(ReconnectDialogConfiguration.class,
+                        new ReconnectDialogConfiguration(this) {
+                            @Override
+                            public int getReconnectAttempts() {
+                                return RECONNECT_ATTEMPTS;
+                            }
+
+                            @Override
+                            public int getDialogGracePeriod() {
+                                return 100000;
+                            }
+
+                            @Override
+                            public String getDialogText() {
+                                return "Reconnecting";
+                            }
+
+                            @Override
+                            public String getDialogTextGaveUp() {
+                                return "Gave up";
+                            }
+                        });
+                set(MessageSender.class, new MessageSender(this) {
+                    @Override
+                    public void send(JsonObject payload) {
+                        sent.add(payload);
+                    }
+                });
+            }
+        };
+        tracker = registry.getRequestResponseTracker();
+        tracker.setMaxActiveRequests(3);
+
+        handler = new DefaultConnectionStateHandler(registry) {
+            @Override
+            protected void scheduleReconnect(JsonObject payload) {
+                // Reconnect immediately instead of using a timer
+                doReconnect(payload);
+            }
+        };
+    }
+
+    public void testRequestResponseTracker_maxActiveRequests_countsRequests() {
+        tracker.startRequest();
+        tracker.startRequest();
+        assertTrue(tracker.canStartRequest());
+        tracker.startRequest();
+        assertFalse(tracker.canStartRequest());
+
+        try {
+            tracker.startRequest();
+            fail("Started more requests than allowed");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+
+        tracker.endRequest();
+        assertTrue(tracker.hasActiveRequest());
+        assertTrue(tracker.canStartRequest());
+        tracker.endRequest();
+        tracker.endRequest();
+        assertFalse(tracker.hasActiveRequest());
+    }
+
+    public void testRequestResponseTracker_pipeliningSuspended_oneRequestAllowed() {
+        tracker.setPipeliningSuspended(true);
+        assertTrue(tracker.canStartRequest());
+        tracker.startRequest();
+        assertFalse(tracker.canStartRequest());
+
+        tracker.setPipeliningSuspended(false);
+        assertTrue(tracker.canStartRequest());
+    }
+
+    public void testFailedRequests_resentInOrderAndPipeliningResumed() {
+        JsonObject first = startRequest(0);
+        JsonObject second = startRequest(1);
+
+        // The later request fails first and is re-sent immediately
+        handler.pushNotConnected(second);
+        assertFalse(tracker.canStartRequest());
+        assertSent(1);
+
+        // The earlier request is re-sent together with the next attempt
+        handler.pushNotConnected(first);
+        assertSent(1);
+        handler.pushNotConnected(second);
+        assertSent(1, 0, 1);
+
+        handler.pushOk(null);
+        assertTrue(tracker.canStartRequest());
+        assertSent(1, 0, 1);
+    }
+
+    public void testFailedRequest_othersFailWhileResending_resentAfterReconnect() {
+        JsonObject first = startRequest(0);
+        JsonObject second = startRequest(1);
+
+        handler.pushNotConnected(first);
+        handler.pushNotConnected(second);
+        assertSent(0);
+
+        // The response to the re-sent request resolves the problem
+        handler.pushOk(null);
+        assertSent(0, 1);
+        assertTrue(tracker.canStartRequest());
+    }
+
+    public void testGiveUp_allActiveRequestsEnded() {
+        JsonObject first = startRequest(0);
+        startRequest(1);
+        startRequest(2);
+
+        for (int i = 0; i < RECONNECT_ATTEMPTS; i++) {
+            handler.pushNotConnected(first);
+        }
+
+        assertFalse(tracker.hasActiveRequest());
+        assertTrue(tracker.canStartRequest());
+        assertTrue(registry.getUILifecycle().isTerminated());
+    }
+
+    private JsonObject startRequest(int clientToServerId) {
+        tracker.startRequest();
+        JsonObject payload = Json.createObject();
+        payload.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
+                clientToServerId);
+        return payload;
+    }
+
+    private void assertSent(int... clientToServerIds) {
+        assertEquals(clientToServerIds.length, sent.size());
+        for (int i = 0; i < clientToServerIds.length; i++) {
+            assertEquals(clientToServerIds[i], (int) sent.get(i)
+                    .getNumber(ApplicationConstants.CLIENT_TO_SERVER_ID));
+        }
+    }
+
+    private native void initScheduler(SchedulerImpl scheduler)
+    /*-{
+       @com.google.gwt.core.client.impl.SchedulerImpl::INSTANCE = scheduler;
+    }-*/;
+}
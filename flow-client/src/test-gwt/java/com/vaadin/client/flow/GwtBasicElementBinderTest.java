@@ -377,6 +377,25 @@ public class GwtBasicElementBinderTest extends GwtPropertyElementBinderTest {
         assertEquals("fourth", childElement.getId());
     }
 
+    public void testSpliceMultipleChildren_insertedInOrder() {
+        Binder.bind(node, element);
+
+        children.add(0, createChildNode("first"));
+        children.add(1, createChildNode("last"));
+        Reactive.flush();
+
+        children.splice(1, 0, JsCollections.array(createChildNode("a", "a"),
+                createChildNode("b", "b"), createChildNode("c", "i")));
+        Reactive.flush();
+
+        assertEquals(5, element.getChildElementCount());
+        String[] ids = { "first", "a", "b", "c", "last" };
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i],
+                    ((Element) element.getChildren().at(i)).getId());
+        }
+    }
+
     public void testInsertChildAfterExistingChildren() {
         Element existingChild1 = Browser.getDocument().createElement("span");
         Element existingChild2 = Browser.getDocument().createElement("span");
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class ServerRpcQueueTest {
+
+    private final ServerRpcQueue queue = new ServerRpcQueue(new Registry() {
+        {
+            UILifecycle uiLifecycle = new UILifecycle();
+            uiLifecycle.setState(UIState.RUNNING);
+            set(UILifecycle.class, uiLifecycle);
+        }
+    });
+
+    @Test
+    public void add_samePropertySyncedTwice_onlyLatestValueQueued() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(1, "other", "x"));
+        queue.add(createSync(1, "value", "b"));
+
+        Assert.assertEquals(2, queue.size());
+        Assert.assertEquals("other", ((JsonObject) queue.toJson().get(0))
+                .getString(JsonConstants.RPC_PROPERTY));
+        Assert.assertEquals("b", ((JsonObject) queue.toJson().get(1))
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    @Test
+    public void add_differentNodes_bothQueued() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(2, "value", "b"));
+
+        Assert.assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void add_otherInvocationInBetween_previousSyncKept() {
+        queue.add(createSync(1, "value", "a"));
+        JsonObject event = Json.createObject();
+        event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        event.put(JsonConstants.RPC_NODE, 1);
+        queue.add(event);
+        queue.add(createSync(1, "value", "b"));
+
+        Assert.assertEquals(3, queue.size());
+    }
+
+    private static JsonObject createSync(int node, String property,
+            String value) {
+        JsonObject sync = Json.createObject();
+        sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        sync.put(JsonConstants.RPC_NODE, node);
+        sync.put(JsonConstants.RPC_FEATURE, 1);
+        sync.put(JsonConstants.RPC_PROPERTY, property);
+        sync.put(JsonConstants.RPC_PROPERTY_VALUE, value);
+        return sync;
+    }
+}
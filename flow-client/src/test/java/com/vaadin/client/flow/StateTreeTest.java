@@ -31,6 +31,7 @@ import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
 
 import elemental.events.EventRemover;
+import elemental.json.JsonObject;
 
 public class StateTreeTest {
 
@@ -334,4 +335,23 @@ public class StateTreeTest {
         Assert.assertFalse(tree.getRootNode().isUnregistered());
         Assert.assertTrue(node.isUnregistered());
     }
+
+    @Test
+    public void getStatistics_nodesFeaturesAndListenersCounted() {
+        int initialCount = tree.getNodeCount();
+        tree.registerNode(node);
+        node.getMap(NodeFeatures.ELEMENT_PROPERTIES);
+        node.addUnregisterListener(event -> {
+        });
+
+        JsonObject statistics = tree.getStatistics();
+
+        Assert.assertEquals(initialCount + 1, tree.getNodeCount());
+        Assert.assertEquals(initialCount + 1,
+                statistics.getNumber("nodes"), 0);
+        Assert.assertEquals(1, statistics.getObject("nodesByFeature")
+                .getNumber(String.valueOf(NodeFeatures.ELEMENT_PROPERTIES)),
+                0);
+        Assert.assertEquals(1, statistics.getNumber("unregisterListeners"), 0);
+    }
 }
@@ -16,6 +16,10 @@
 package com.vaadin.flow.data.binder;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.shared.util.SharedUtil;
@@ -38,6 +42,14 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     private final BeanPropertySet<T> propertySet;
     private final Class<?> propertyHolderType;
 
+    /*
+     * Method handles are resolved lazily on first use since they cannot be
+     * serialized. A handle stays null if the method cannot be unreflected, in
+     * which case reflection is used.
+     */
+    private transient volatile MethodHandle readHandle;
+    private transient volatile MethodHandle writeHandle;
+
     /**
      * Constructor for setting the immutable descriptor, property set and
      * property holder type used by this instance.
@@ -98,4 +110,84 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     public Class<?> getPropertyHolderType() {
         return propertyHolderType;
     }
+
+    /**
+     * Invokes the read method of this property on the given property holder.
+     *
+     * @param holder
+     *            the object to read the property value from
+     * @return the property value
+     */
+    Object invokeReadMethod(Object holder) {
+        Method readMethod = descriptor.getReadMethod();
+        MethodHandle handle = readHandle;
+        if (handle == null) {
+            handle = createHandle(readMethod);
+            readHandle = handle;
+        }
+        if (handle == null
+                || !readMethod.getDeclaringClass().isInstance(holder)) {
+            return invokeWrapExceptions(readMethod, holder);
+        }
+        try {
+            return handle.invokeExact(holder);
+        } catch (Throwable throwable) { // NOSONAR
+            throw wrapException(throwable);
+        }
+    }
+
+    /**
+     * Invokes the write method of this property on the given property holder.
+     *
+     * @param holder
+     *            the object to write the property value to
+     * @param value
+     *            the value to write
+     */
+    void invokeWriteMethod(Object holder, Object value) {
+        Method writeMethod = descriptor.getWriteMethod();
+        MethodHandle handle = writeHandle;
+        if (handle == null) {
+            handle = createHandle(writeMethod);
+            writeHandle = handle;
+        }
+        if (handle == null
+                || !writeMethod.getDeclaringClass().isInstance(holder)
+                || (value == null
+                        && writeMethod.getParameterTypes()[0].isPrimitive())) {
+            // Let reflection produce the same errors as before
+            invokeWrapExceptions(writeMethod, holder, value);
+            return;
+        }
+        try {
+            Object ignore = handle.invokeExact(holder, value); // NOSONAR
+        } catch (Throwable throwable) { // NOSONAR
+            throw wrapException(throwable);
+        }
+    }
+
+    private static MethodHandle createHandle(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            // Object-typed so that it can be invoked with invokeExact
+            return handle.asType(handle.type().generic());
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static RuntimeException wrapException(Throwable throwable) {
+        // Same exception chain as when invoking through reflection
+        return new RuntimeException(
+                new InvocationTargetException(throwable));
+    }
+
+    private static Object invokeWrapExceptions(Method method, Object target,
+            Object... parameters) {
+        try {
+            return method.invoke(target, parameters);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -19,7 +19,6 @@ import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
@@ -116,8 +115,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         @Override
         public ValueProvider<T, V> getGetter() {
             return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod, bean);
+                Object value = invokeReadMethod(bean);
                 return getType().cast(value);
             };
         }
@@ -129,12 +127,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
             }
 
             Setter<T, V> setter = (bean, value) -> {
-                // Do not "optimize" this getter call,
-                // if its done outside the code block, that will produce
-                // NotSerializableException because of some lambda compilation
-                // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter, bean, value);
+                invokeWriteMethod(bean, value);
             };
             return Optional.of(setter);
         }
@@ -196,8 +189,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         @Override
         public ValueProvider<T, V> getGetter() {
             return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod,
+                Object value = invokeReadMethod(
                         parent.getGetter().apply(bean));
                 return getType().cast(value);
             };
@@ -210,13 +202,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
             }
 
             Setter<T, V> setter = (bean, value) -> {
-                // Do not "optimize" this getter call,
-                // if its done outside the code block, that will produce
-                // NotSerializableException because of some lambda compilation
-                // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter,
-                        parent.getGetter().apply(bean), value);
+                invokeWriteMethod(parent.getGetter().apply(bean), value);
             };
             return Optional.of(setter);
         }
@@ -510,15 +496,6 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 && readMethod.getDeclaringClass() != Object.class;
     }
 
-    private static Object invokeWrapExceptions(Method method, Object target,
-            Object... parameters) {
-        try {
-            return method.invoke(target, parameters);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     @Override
     public String toString() {
         return "Property set for bean " + instanceKey.type.getName();
@@ -32,6 +32,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -48,6 +52,7 @@ import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.component.HasValue.ValueChangeEvent;
 import com.vaadin.flow.component.HasValue.ValueChangeListener;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.data.converter.Converter;
 import com.vaadin.flow.data.converter.StringToIntegerConverter;
 import com.vaadin.flow.data.validator.BeanValidator;
@@ -56,6 +61,7 @@ import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.shared.Registration;
 
 /**
@@ -1018,6 +1024,37 @@ public class Binder<BEAN> implements Serializable {
         }
     }
 
+    /**
+     * The result of an asynchronous binding validation together with the
+     * input it was computed from.
+     *
+     * @param <FIELDVALUE>
+     *            the value type of the field
+     * @param <TARGET>
+     *            the target data type of the binding
+     */
+    private static class CachedValidation<FIELDVALUE, TARGET> {
+        private final FIELDVALUE fieldValue;
+        private final Locale locale;
+        private final boolean validatorsDisabled;
+        private final Result<TARGET> result;
+
+        private CachedValidation(FIELDVALUE fieldValue, Locale locale,
+                boolean validatorsDisabled, Result<TARGET> result) {
+            this.fieldValue = fieldValue;
+            this.locale = locale;
+            this.validatorsDisabled = validatorsDisabled;
+            this.result = result;
+        }
+
+        private boolean matches(FIELDVALUE fieldValue, Locale locale,
+                boolean validatorsDisabled) {
+            return Objects.equals(this.fieldValue, fieldValue)
+                    && Objects.equals(this.locale, locale)
+                    && this.validatorsDisabled == validatorsDisabled;
+        }
+    }
+
     /**
      * An internal implementation of {@code Binding}.
      *
@@ -1055,6 +1092,8 @@ public class Binder<BEAN> implements Serializable {
 
         private boolean validatorsDisabled = false;
 
+        private transient volatile CachedValidation<FIELDVALUE, TARGET> cachedValidation;
+
         public BindingImpl(BindingBuilderImpl<BEAN, FIELDVALUE, TARGET> builder,
                 ValueProvider<BEAN, TARGET> getter,
                 Setter<BEAN, TARGET> setter) {
@@ -1157,6 +1196,39 @@ public class Binder<BEAN> implements Serializable {
             return toValidationStatus(doConversion());
         }
 
+        /**
+         * Runs the field value through all converters and validators using the
+         * given executor. The field value and the value context are read on the
+         * calling thread. If the field value has not changed since the previous
+         * asynchronous validation of this binding, the previous result is
+         * reused without running the validators again.
+         *
+         * @param executor
+         *            the executor to run the converters and validators with
+         * @return a future for the validation status
+         */
+        private CompletableFuture<BindingValidationStatus<?>> doValidationAsync(
+                Executor executor) {
+            FIELDVALUE fieldValue = field.getValue();
+            ValueContext context = createValueContext();
+            Locale locale = context.getLocale().orElse(null);
+            boolean disabled = isValidatorsDisabled()
+                    || getBinder().isValidatorsDisabled();
+
+            CachedValidation<FIELDVALUE, TARGET> cached = cachedValidation;
+            if (cached != null && cached.matches(fieldValue, locale, disabled)) {
+                return CompletableFuture
+                        .completedFuture(toValidationStatus(cached.result));
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                Result<TARGET> result = converterValidatorChain
+                        .convertToModel(fieldValue, context);
+                cachedValidation = new CachedValidation<>(fieldValue, locale,
+                        disabled, result);
+                return toValidationStatus(result);
+            }, executor);
+        }
+
         /**
          * Creates a value context from the current state of the binding and its
          * field.
@@ -2174,13 +2246,116 @@ public class Binder<BEAN> implements Serializable {
      *
      */
     protected BinderValidationStatus<BEAN> validate(boolean fireEvent) {
+        checkBeanForValidation();
+        return completeValidation(validateBindings(), fireEvent);
+    }
+
+    /**
+     * Validates the values of all bound fields asynchronously using the common
+     * fork-join pool.
+     *
+     * @see #validateAsync(Executor)
+     *
+     * @return a completion stage for the validation status of the binder
+     */
+    public CompletionStage<BinderValidationStatus<BEAN>> validateAsync() {
+        return validateAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the values of all bound fields asynchronously and returns a
+     * completion stage for the validation status.
+     * <p>
+     * The field values are read on the calling thread, after which the
+     * converters and validators of the bindings run in parallel using the
+     * given executor. Converters and validators used with this method must
+     * thus not access any UI state. The validation result of a binding is
+     * remembered, and the validators of the binding are not run again by this
+     * method as long as the field value stays the same.
+     * <p>
+     * When all bindings have been validated, bean level validators are run as
+     * described in {@link #validate()}, the validation status handlers are
+     * notified and the returned stage is completed. If this method is called
+     * while a {@link UI} is current, this is done through
+     * {@link UI#access(Command)}, i.e. with the session locked. Otherwise it is
+     * done on the thread that completed the last binding validation.
+     *
+     * @param executor
+     *            the executor to run binding validators with, not
+     *            <code>null</code>
+     * @return a completion stage for the validation status of the binder
+     * @throws IllegalStateException
+     *             if bean level validators have been configured and no bean is
+     *             currently set
+     */
+    public CompletionStage<BinderValidationStatus<BEAN>> validateAsync(
+            Executor executor) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        checkBeanForValidation();
+        UI ui = UI.getCurrent();
+
+        List<CompletableFuture<BindingValidationStatus<?>>> bindingValidations = getBindings()
+                .stream()
+                .map(binding -> binding.doValidationAsync(executor))
+                .collect(Collectors.toList());
+
+        CompletableFuture<BinderValidationStatus<BEAN>> validation = new CompletableFuture<>();
+        CompletableFuture
+                .allOf(bindingValidations.toArray(new CompletableFuture[0]))
+                .whenComplete((ignore, throwable) -> {
+                    if (throwable != null) {
+                        validation.completeExceptionally(throwable);
+                        return;
+                    }
+                    List<BindingValidationStatus<?>> bindingStatuses = bindingValidations
+                            .stream().map(CompletableFuture::join)
+                            .collect(Collectors.collectingAndThen(
+                                    Collectors.toList(),
+                                    Collections::unmodifiableList));
+                    Command completion = () -> {
+                        try {
+                            validation.complete(
+                                    completeValidation(bindingStatuses, true));
+                        } catch (RuntimeException e) {
+                            validation.completeExceptionally(e);
+                            throw e;
+                        }
+                    };
+                    if (ui == null) {
+                        completion.execute();
+                    } else {
+                        try {
+                            ui.access(completion);
+                        } catch (UIDetachedException e) {
+                            validation.completeExceptionally(e);
+                        }
+                    }
+                });
+        return validation;
+    }
+
+    private void checkBeanForValidation() {
         if (getBean() == null && !validators.isEmpty()) {
             throw new IllegalStateException("Cannot validate binder: "
                     + "bean level validators have been configured "
                     + "but no bean is currently set");
         }
-        List<BindingValidationStatus<?>> bindingStatuses = validateBindings();
+    }
 
+    /**
+     * Runs bean level validators if all bindings are valid and notifies the
+     * status handlers if requested.
+     *
+     * @param bindingStatuses
+     *            the validation statuses of all bindings
+     * @param fireEvent
+     *            {@code true} to fire validation status events; {@code false}
+     *            to not
+     * @return validation status for the binder
+     */
+    private BinderValidationStatus<BEAN> completeValidation(
+            List<BindingValidationStatus<?>> bindingStatuses,
+            boolean fireEvent) {
         BinderValidationStatus<BEAN> validationStatus;
         if (validators.isEmpty() || bindingStatuses.stream()
                 .anyMatch(BindingValidationStatus::isError)) {
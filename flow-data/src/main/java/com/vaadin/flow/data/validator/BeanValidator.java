@@ -18,9 +18,11 @@ package com.vaadin.flow.data.validator;
 
 import java.io.Serializable;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.MessageInterpolator.Context;
@@ -32,6 +34,7 @@ import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.binder.Validator;
 import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.internal.BeanUtil;
+import com.vaadin.flow.internal.ReflectionCache;
 
 /**
  * A {@code Validator} using the JSR-303 (javax.validation) annotation-based
@@ -44,6 +47,12 @@ import com.vaadin.flow.internal.BeanUtil;
  * <a href="http://bval.apache.org/">Apache BVal</a>) must be present on the
  * project classpath when using bean validation. Specification versions 1.0 and
  * 1.1 are supported.
+ * <p>
+ * Constraint metadata and interpolated messages are cached per bean type and
+ * shared by all validator instances. Validating a property without any
+ * constraints thus does not involve the validation provider after the first
+ * call, and messages that do not depend on the validated value are only
+ * interpolated once per constraint and locale.
  *
  * @author Vaadin Ltd
  * @since 1.0.
@@ -76,6 +85,67 @@ public class BeanValidator implements Validator<Object> {
 
     }
 
+    /**
+     * Metadata of a bean type that is shared by all validator instances.
+     */
+    private static final class BeanMetadata {
+
+        private final Map<String, Boolean> constrainedProperties = new ConcurrentHashMap<>();
+
+        private final Map<MessageKey, String> messages = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Identifies a message that has been interpolated for a constraint.
+     */
+    private static final class MessageKey {
+
+        private final ConstraintDescriptor<?> descriptor;
+        private final String messageTemplate;
+        private final Locale locale;
+
+        private MessageKey(ConstraintDescriptor<?> descriptor,
+                String messageTemplate, Locale locale) {
+            this.descriptor = descriptor;
+            this.messageTemplate = messageTemplate;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MessageKey)) {
+                return false;
+            }
+            MessageKey other = (MessageKey) obj;
+            return descriptor.equals(other.descriptor)
+                    && messageTemplate.equals(other.messageTemplate)
+                    && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(descriptor, messageTemplate, locale);
+        }
+    }
+
+    private static final ReflectionCache<Object, BeanMetadata> METADATA = new ReflectionCache<>(
+            type -> new BeanMetadata());
+
+    /**
+     * Whether validators of a type may use the shared metadata. The metadata
+     * is computed using the shared validator and message interpolation
+     * context, so it cannot be used by subclasses overriding
+     * {@link #getJavaxBeanValidator()} or
+     * {@link #createContext(ConstraintViolation)}.
+     */
+    private static final ReflectionCache<BeanValidator, Boolean> USES_SHARED_METADATA = new ReflectionCache<>(
+            type -> !isOverridden(type, "getJavaxBeanValidator")
+                    && !isOverridden(type, "createContext",
+                            ConstraintViolation.class));
+
     private String propertyName;
     private Class<?> beanType;
 
@@ -122,6 +192,9 @@ public class BeanValidator implements Validator<Object> {
      */
     @Override
     public ValidationResult apply(final Object value, ValueContext context) {
+        if (!isConstrained()) {
+            return ValidationResult.ok();
+        }
         Set<? extends ConstraintViolation<?>> violations = getJavaxBeanValidator()
                 .validateValue(beanType, propertyName, value);
 
@@ -134,6 +207,31 @@ public class BeanValidator implements Validator<Object> {
         return result.orElse(ValidationResult.ok());
     }
 
+    /**
+     * Checks whether the validated property may have constraints. Nested
+     * property paths are always considered constrained.
+     *
+     * @return <code>false</code> if the property is known to have no
+     *         constraints, <code>true</code> otherwise
+     */
+    private boolean isConstrained() {
+        if (propertyName.contains(".") || !usesSharedMetadata()) {
+            return true;
+        }
+        return METADATA.get(beanType).constrainedProperties
+                .computeIfAbsent(propertyName, name -> {
+                    javax.validation.Validator validator = getJavaxBeanValidator();
+                    if (validator.getConstraintsForClass(beanType)
+                            .getConstraintsForProperty(name) != null) {
+                        return Boolean.TRUE;
+                    }
+                    // Fails in the same way as validation if there is no
+                    // such property
+                    validator.validateValue(beanType, name, null);
+                    return Boolean.FALSE;
+                });
+    }
+
     @Override
     public String toString() {
         return String.format("%s[%s.%s]", getClass().getSimpleName(),
@@ -156,12 +254,17 @@ public class BeanValidator implements Validator<Object> {
      * @return the validator to use
      */
     public javax.validation.Validator getJavaxBeanValidator() {
-        return getJavaxBeanValidatorFactory().getValidator();
+        return LazyFactoryInitializer.VALIDATOR;
     }
 
     /**
      * Returns the interpolated error message for the given constraint violation
      * using the locale specified for this validator.
+     * <p>
+     * Messages that do not refer to the validated value through an expression
+     * are cached per constraint and locale, unless
+     * {@link #getJavaxBeanValidator()} or
+     * {@link #createContext(ConstraintViolation)} is overridden.
      *
      * @param violation
      *            the constraint violation
@@ -171,6 +274,39 @@ public class BeanValidator implements Validator<Object> {
      */
     protected String getMessage(ConstraintViolation<?> violation,
             Locale locale) {
+        String messageTemplate = violation.getMessageTemplate();
+        ConstraintDescriptor<?> descriptor = violation
+                .getConstraintDescriptor();
+        if (descriptor == null || messageTemplate.contains("${")
+                || !usesSharedMetadata()) {
+            // Expression language may refer to the validated value
+            return interpolate(violation, locale);
+        }
+        return METADATA.get(beanType).messages.computeIfAbsent(
+                new MessageKey(descriptor, messageTemplate, locale),
+                key -> interpolate(violation, locale));
+    }
+
+    private boolean usesSharedMetadata() {
+        return USES_SHARED_METADATA.get(getClass()).booleanValue();
+    }
+
+    private static boolean isOverridden(Class<?> type, String methodName,
+            Class<?>... parameterTypes) {
+        for (Class<?> current = type; current != BeanValidator.class; current = current
+                .getSuperclass()) {
+            try {
+                current.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not declared by this class, check the super class
+            }
+        }
+        return false;
+    }
+
+    private String interpolate(ConstraintViolation<?> violation,
+            Locale locale) {
         return getJavaxBeanValidatorFactory().getMessageInterpolator()
                 .interpolate(violation.getMessageTemplate(),
                         createContext(violation), locale);
@@ -191,6 +327,9 @@ public class BeanValidator implements Validator<Object> {
     private static class LazyFactoryInitializer implements Serializable {
         private static final ValidatorFactory FACTORY = getFactory();
 
+        private static final javax.validation.Validator VALIDATOR = FACTORY
+                .getValidator();
+
         private LazyFactoryInitializer() {
         }
 
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -43,6 +44,7 @@ import com.vaadin.flow.data.binder.BeanBinderTest.RequiredConstraints.SubSubCons
 import com.vaadin.flow.data.binder.testcomponents.TestTextField;
 import com.vaadin.flow.data.converter.StringToIntegerConverter;
 import com.vaadin.flow.tests.data.bean.BeanToValidate;
+import com.vaadin.flow.tests.data.bean.WideBean;
 
 public class BeanBinderTest
         extends BinderTestBase<Binder<BeanToValidate>, BeanToValidate> {
@@ -559,6 +561,33 @@ public class BeanBinderTest
         Assert.assertTrue(binder.validate().isOk());
     }
 
+    @Test
+    public void readAndWriteWideBean_performance() throws ValidationException {
+        Binder<WideBean> binder = new Binder<>(WideBean.class);
+        List<TestTextField> fields = new ArrayList<>();
+        for (int i = 0; i < WideBean.PROPERTY_COUNT; i++) {
+            TestTextField field = new TestTextField();
+            binder.bind(field, "property" + i);
+            fields.add(field);
+        }
+        WideBean bean = new WideBean();
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            binder.readBean(bean);
+            for (TestTextField field : fields) {
+                field.setValue("value" + i);
+            }
+            binder.writeBean(bean);
+        }
+        long time = System.currentTimeMillis() - start;
+
+        assertEquals("value999", bean.getProperty0());
+        assertEquals("value999", bean.getProperty49());
+        assertTrue("Reading and writing a bean with 50 properties 1000 times "
+                + "took " + time + "ms", time < 2000);
+    }
+
     private void assertInvalid(TestTextField field, String message) {
         BinderValidationStatus<?> status = binder.validate();
         List<BindingValidationStatus<?>> errors = status
@@ -199,6 +199,33 @@ public class BeanPropertySetTest {
         Assert.assertEquals(grandFather.getFirstName(), firstName);
     }
 
+    @Test
+    public void nestedPropertyDefinition_setterWritesToNestedBean() {
+        PropertyDefinition<FatherAndSon, String> definition = (PropertyDefinition<FatherAndSon, String>) BeanPropertySet
+                .get(FatherAndSon.class).getProperty("father.firstName")
+                .orElseThrow(RuntimeException::new);
+
+        FatherAndSon father = new FatherAndSon("Old Jon", "Doe", null, null);
+        FatherAndSon son = new FatherAndSon("Jon", "Doe", father, null);
+
+        definition.getSetter().orElseThrow(RuntimeException::new).accept(son,
+                "Young Jon");
+
+        Assert.assertEquals("Young Jon", father.getFirstName());
+        Assert.assertEquals("Young Jon", definition.getGetter().apply(son));
+    }
+
+    @Test
+    public void propertyDefinition_primitiveGetter_returnsBoxedValue() {
+        PropertyDefinition<Person, Integer> definition = (PropertyDefinition<Person, Integer>) BeanPropertySet
+                .get(Person.class).getProperty("born")
+                .orElseThrow(RuntimeException::new);
+
+        Assert.assertEquals(Integer.valueOf(1920),
+                definition.getGetter().apply(new Person("Jon", 1920)));
+        Assert.assertFalse(definition.getSetter().isPresent());
+    }
+
     @Test(expected = NullPointerException.class)
     public void nestedPropertyDefinition_propertyChainBroken() {
         PropertyDefinition<FatherAndSon, ?> definition = BeanPropertySet
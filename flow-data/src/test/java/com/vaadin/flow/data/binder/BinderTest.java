@@ -1584,6 +1584,47 @@ public class BinderTest extends BinderTestBase<Binder<Person>, Person> {
                 innerListenerInvoked.get());
     }
 
+    @Test
+    public void validateAsync_invalidValue_errorStatusDelivered()
+            throws Exception {
+        binder.forField(nameField).withValidator(notEmpty)
+                .bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+        nameField.setValue("");
+
+        AtomicReference<BinderValidationStatus<Person>> handledStatus = new AtomicReference<>();
+        binder.setValidationStatusHandler(handledStatus::set);
+
+        BinderValidationStatus<Person> status = binder
+                .validateAsync(Runnable::run).toCompletableFuture().get();
+
+        assertTrue(status.hasErrors());
+        assertSame(status, handledStatus.get());
+        assertEquals(EMPTY_ERROR_MESSAGE, componentErrors.get(nameField));
+    }
+
+    @Test
+    public void validateAsync_unchangedValue_validatorNotRunAgain()
+            throws Exception {
+        AtomicInteger validatorCalls = new AtomicInteger();
+        binder.forField(nameField).withValidator((value, context) -> {
+            validatorCalls.incrementAndGet();
+            return ValidationResult.ok();
+        }).bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+        validatorCalls.set(0);
+
+        binder.validateAsync(Runnable::run).toCompletableFuture().get();
+        binder.validateAsync(Runnable::run).toCompletableFuture().get();
+        assertEquals(1, validatorCalls.get());
+
+        nameField.setValue("Jon");
+        validatorCalls.set(0);
+        assertTrue(binder.validateAsync(Runnable::run).toCompletableFuture()
+                .get().isOk());
+        assertEquals(1, validatorCalls.get());
+    }
+
     private TestTextField createNullRejectingFieldWithEmptyValue(
             String emptyValue) {
         return new TestTextField() {
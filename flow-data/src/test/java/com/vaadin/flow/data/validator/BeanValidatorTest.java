@@ -2,13 +2,18 @@ package com.vaadin.flow.data.validator;
 
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator.Context;
 import javax.validation.Validation;
 
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.tests.data.bean.Address;
 import com.vaadin.flow.tests.data.bean.BeanToValidate;
 
@@ -78,6 +83,70 @@ public class BeanValidatorTest extends ValidatorTestBase {
         assertPasses(null, validator("nickname"));
     }
 
+    @Test
+    public void testInvalidDecimalsMessageLocalizedPerLocale() {
+        BeanValidator v = validator("decimals");
+        setLocale(Locale.FRENCH);
+        assertFails("1234.567", "valeur numérique hors limite "
+                + "(<3 chiffres>.<2 chiffres> attendu)", v);
+        setLocale(Locale.ENGLISH);
+        assertFails("1234.567", "numeric value out of bounds "
+                + "(<3 digits>.<2 digits> expected)", v);
+    }
+
+    @Test
+    public void testUnconstrainedPropertyPasses() {
+        assertPasses("foo", validator("writeOnlyProperty"));
+        assertPasses("foo", validator("writeOnlyProperty"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownPropertyFails() {
+        validator("unknownProperty").apply("foo", new ValueContext());
+    }
+
+    @Test
+    public void testOverriddenContextUsedForEveryMessage() {
+        AtomicInteger contexts = new AtomicInteger();
+        BeanValidator v = new BeanValidator(BeanToValidate.class,
+                "firstname") {
+            @Override
+            protected Context createContext(
+                    ConstraintViolation<?> violation) {
+                contexts.incrementAndGet();
+                return super.createContext(violation);
+            }
+        };
+
+        assertFails("x", "size must be between 3 and 16", v);
+        assertFails("x", "size must be between 3 and 16", v);
+
+        Assert.assertEquals(2, contexts.get());
+    }
+
+    @Test
+    public void testEagerValidationPerformance() {
+        BeanValidator v = validator("firstname");
+        ValueContext context = new ValueContext();
+        String text = "abcdefghijklmnopqrst";
+
+        // Validate on every keystroke, as with an eager value change mode
+        int errors = 0;
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10000; i++) {
+            String value = text.substring(0, i % text.length() + 1);
+            if (v.apply(value, context).isError()) {
+                errors++;
+            }
+        }
+        long time = System.currentTimeMillis() - start;
+
+        // 2 too short and 4 too long values in every 20 keystrokes
+        Assert.assertEquals(3000, errors);
+        Assert.assertTrue(
+                "Validating 10K values took " + time + "ms", time < 5000);
+    }
+
     @After
     public void tearDown() {
         UI.setCurrent(null);
@@ -160,6 +160,8 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
                         .useV14Bootstrap(useDeprecatedV14Bootstrapping())
                         .enablePackagesUpdate(true)
                         .useByteCodeScanner(optimizeBundle)
+                        .withScanCacheFile(new File(npmFolder,
+                                FrontendUtils.DEFAULT_SCAN_CACHE_FILE))
                         .withFlowResourcesFolder(flowResourcesFolder)
                         .copyResources(jarFiles)
                         .copyLocalResources(frontendResourcesDirectory)
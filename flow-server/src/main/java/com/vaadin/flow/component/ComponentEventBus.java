@@ -16,12 +16,9 @@
 package com.vaadin.flow.component;
 
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -31,12 +28,8 @@ import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.AnnotationReader;
-import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.shared.Registration;
 
-import elemental.json.Json;
-import elemental.json.JsonValue;
-
 /**
  * An event bus for {@link Component}s.
  * <p>
@@ -74,6 +67,14 @@ public class ComponentEventBus implements Serializable {
 
     private Component component;
 
+    /*
+     * Event data decoded for the latest DOM event, shared by all listeners of
+     * the same event type.
+     */
+    private transient DomEvent lastDomEvent;
+    private transient ComponentEventBusUtil.EventTypeInfo lastEventTypeInfo;
+    private transient Object[] lastEventData;
+
     /**
      * Creates an event bus for the given component.
      *
@@ -290,31 +291,25 @@ public class ComponentEventBus implements Serializable {
     }
 
     /**
-     * Creates a list of data objects which can be passed to the constructor
-     * returned by {@link #getEventConstructor(Class)} as parameters 3+.
+     * Gets the decoded event data values for the given DOM event and component
+     * event type. The values are decoded only once per DOM event and event
+     * type, even if there are multiple listeners for the same event.
      *
      * @param domEvent
      *            the DOM event containing the data
-     * @param eventType
-     *            the component event type
-     * @return a list of event data objects in the same order as defined in the
+     * @param typeInfo
+     *            the component event type information
+     * @return the event data values in the same order as defined in the
      *         component event constructor
      */
-    private List<Object> createEventDataObjects(DomEvent domEvent,
-            Class<? extends ComponentEvent<?>> eventType) {
-        List<Object> eventDataObjects = new ArrayList<>();
-
-        LinkedHashMap<String, Class<?>> expressions = ComponentEventBusUtil
-                .getEventDataExpressions(eventType);
-        expressions.forEach((expression, type) -> {
-            JsonValue jsonValue = domEvent.getEventData().get(expression);
-            if (jsonValue == null) {
-                jsonValue = Json.createNull();
-            }
-            Object value = JsonCodec.decodeAs(jsonValue, type);
-            eventDataObjects.add(value);
-        });
-        return eventDataObjects;
+    private Object[] getEventData(DomEvent domEvent,
+            ComponentEventBusUtil.EventTypeInfo typeInfo) {
+        if (domEvent != lastDomEvent || typeInfo != lastEventTypeInfo) {
+            lastEventData = typeInfo.decodeEventData(domEvent.getEventData());
+            lastDomEvent = domEvent;
+            lastEventTypeInfo = typeInfo;
+        }
+        return lastEventData;
     }
 
     /**
@@ -387,28 +382,20 @@ public class ComponentEventBus implements Serializable {
     private <T extends ComponentEvent<?>> T createEventForDomEvent(
             Class<T> eventType, DomEvent domEvent, Component source) {
         try {
-            Constructor<T> c = ComponentEventBusUtil
-                    .getEventConstructor(eventType);
+            ComponentEventBusUtil.EventTypeInfo typeInfo = ComponentEventBusUtil
+                    .getEventTypeInfo(eventType);
             // Make sure that the source component type is ok
-            if (!c.getParameterTypes()[0].isAssignableFrom(source.getClass())) {
-                Class<?> definedSourceType = c.getParameterTypes()[0];
+            Class<?> definedSourceType = typeInfo.getSourceType();
+            if (!definedSourceType.isAssignableFrom(source.getClass())) {
                 throw new IllegalArgumentException(String.format(
                         "The event type %s define the source type to be %s, which is not compatible with the used source of type %s",
                         eventType.getName(), definedSourceType.getName(),
                         source.getClass().getName()));
             }
 
-            List<Object> eventData = createEventDataObjects(domEvent,
-                    eventType);
-            Object[] params = new Object[eventData.size() + 2];
-            params[0] = source;
-            params[1] = Boolean.TRUE; // From client
-            for (int i = 0; i < eventData.size(); i++) {
-                params[i + 2] = eventData.get(i);
-            }
-            return c.newInstance(params);
-        } catch (InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException
+            return eventType.cast(typeInfo.createEvent(source,
+                    getEventData(domEvent, typeInfo)));
+        } catch (ReflectiveOperationException | IllegalArgumentException
                 | SecurityException e) {
             throw new IllegalArgumentException(
                     "Unable to create an event object of type "
@@ -15,16 +15,24 @@
  */
 package com.vaadin.flow.component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
 /**
  * Static helpers and caching functionality for {@link ComponentEventBus}.
  *
@@ -44,13 +52,100 @@ public class ComponentEventBusUtil {
     static ReflectionCache<ComponentEvent<?>, EventTypeInfo> cache = new ReflectionCache<>(
             EventTypeInfo::new);
 
-    private static class EventTypeInfo {
+    static class EventTypeInfo {
         private final LinkedHashMap<String, Class<?>> dataExpressions;
         private final Constructor<? extends ComponentEvent<?>> eventConstructor;
 
+        private final String[] dataExpressionArray;
+        private final Class<?>[] dataTypes;
+        private final Class<?> sourceType;
+        /*
+         * Takes all constructor parameters as an Object[] and returns the
+         * event as Object, or null if the constructor is not accessible
+         * through a method handle.
+         */
+        private final MethodHandle eventFactory;
+
         public EventTypeInfo(Class<? extends ComponentEvent<?>> type) {
             eventConstructor = findEventConstructor(type);
             dataExpressions = findEventDataExpressions(eventConstructor);
+
+            dataExpressionArray = dataExpressions.keySet()
+                    .toArray(new String[0]);
+            dataTypes = dataExpressions.values().toArray(new Class<?>[0]);
+            sourceType = eventConstructor.getParameterTypes()[0];
+            eventFactory = createEventFactory(eventConstructor);
+        }
+
+        /**
+         * Gets the source component type accepted by the event constructor.
+         *
+         * @return the source component type
+         */
+        Class<?> getSourceType() {
+            return sourceType;
+        }
+
+        /**
+         * Decodes the values of all event data expressions of this event type
+         * from the given event data.
+         *
+         * @param eventData
+         *            the event data of a DOM event
+         * @return the decoded values in constructor parameter order
+         */
+        Object[] decodeEventData(JsonObject eventData) {
+            Object[] values = new Object[dataTypes.length];
+            for (int i = 0; i < values.length; i++) {
+                JsonValue jsonValue = eventData.get(dataExpressionArray[i]);
+                if (jsonValue == null) {
+                    jsonValue = Json.createNull();
+                }
+                values[i] = JsonCodec.decodeAs(jsonValue, dataTypes[i]);
+            }
+            return values;
+        }
+
+        /**
+         * Creates an event originating from the client.
+         *
+         * @param source
+         *            the source component
+         * @param eventData
+         *            the decoded event data values
+         * @return the created event
+         * @throws ReflectiveOperationException
+         *             if creating the event fails
+         */
+        ComponentEvent<?> createEvent(Component source, Object[] eventData)
+                throws ReflectiveOperationException {
+            Object[] params = new Object[eventData.length + 2];
+            params[0] = source;
+            params[1] = Boolean.TRUE; // From client
+            System.arraycopy(eventData, 0, params, 2, eventData.length);
+
+            if (eventFactory == null) {
+                return eventConstructor.newInstance(params);
+            }
+            try {
+                Object event = eventFactory.invokeExact(params);
+                return (ComponentEvent<?>) event;
+            } catch (Throwable throwable) { // NOSONAR
+                // Same exception as when invoking through reflection
+                throw new InvocationTargetException(throwable);
+            }
+        }
+
+        private static MethodHandle createEventFactory(
+                Constructor<?> constructor) {
+            try {
+                MethodHandle handle = MethodHandles.publicLookup()
+                        .unreflectConstructor(constructor);
+                return handle.asType(handle.type().generic()).asSpreader(
+                        Object[].class, constructor.getParameterCount());
+            } catch (IllegalAccessException e) { // NOSONAR
+                return null;
+            }
         }
     }
 
@@ -106,6 +201,20 @@ public class ComponentEventBusUtil {
         return eventDataExpressions;
     }
 
+    /**
+     * Gets the cached information about the given event type.
+     *
+     * @param eventType
+     *            the component event type
+     * @return the event type information
+     * @throws IllegalArgumentException
+     *             if no suitable constructor was found
+     */
+    static EventTypeInfo getEventTypeInfo(
+            Class<? extends ComponentEvent<?>> eventType) {
+        return cache.get(eventType);
+    }
+
     /**
      * Gets the constructor to use for firing a component event, of the given
      * type, based on a DOM event.
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.LoggerFactory;
@@ -47,11 +49,13 @@ public interface HasComponents extends HasElement, HasEnabled {
      */
     default void add(Component... components) {
         Objects.requireNonNull(components, "Components should not be null");
+        List<Element> elements = new ArrayList<>(components.length);
         for (Component component : components) {
             Objects.requireNonNull(component,
                     "Component to add cannot be null");
-            getElement().appendChild(component.getElement());
+            elements.add(component.getElement());
         }
+        getElement().appendChildren(elements);
     }
 
     /**
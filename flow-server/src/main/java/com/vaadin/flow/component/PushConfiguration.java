@@ -167,6 +167,63 @@ public interface PushConfiguration extends Serializable {
      */
     void setPushConnectionFactory(PushConnectionFactory factory);
 
+    /**
+     * Sets the minimum time between two asynchronous pushes to the client.
+     * <p>
+     * Pushes requested within the window after the previous push are not sent
+     * immediately. Instead, the pending changes are collected and sent in a
+     * single trailing push once the window has passed. Responses to client
+     * requests are never delayed.
+     * <p>
+     * By default, the value of
+     * {@link com.vaadin.flow.function.DeploymentConfiguration#getPushCoalescingWindow()}
+     * is used.
+     *
+     * @param milliseconds
+     *            the coalescing window in milliseconds, or <code>0</code> to
+     *            send every push immediately
+     * @throws IllegalArgumentException
+     *             if the value is negative
+     */
+    void setPushCoalescingWindow(int milliseconds);
+
+    /**
+     * Returns the minimum time between two asynchronous pushes to the client.
+     *
+     * @return the coalescing window in milliseconds, or <code>0</code> if every
+     *         push is sent immediately
+     * @see #setPushCoalescingWindow(int)
+     */
+    int getPushCoalescingWindow();
+
+    /**
+     * Sets the maximum number of push messages that may be waiting to be
+     * written to the client. When the limit is reached, further asynchronous
+     * pushes are held back until the client has caught up, and the pending
+     * changes are then sent as a single message.
+     * <p>
+     * By default, the value of
+     * {@link com.vaadin.flow.function.DeploymentConfiguration#getPushMaxPendingMessages()}
+     * is used.
+     *
+     * @param maxPendingMessages
+     *            the maximum number of pending messages, or <code>0</code> for
+     *            no limit
+     * @throws IllegalArgumentException
+     *             if the value is negative
+     */
+    void setMaxPendingPushMessages(int maxPendingMessages);
+
+    /**
+     * Returns the maximum number of push messages that may be waiting to be
+     * written to the client.
+     *
+     * @return the maximum number of pending messages, or <code>0</code> if not
+     *         limited
+     * @see #setMaxPendingPushMessages(int)
+     */
+    int getMaxPendingPushMessages();
+
 }
 
 /**
@@ -178,6 +235,8 @@ public interface PushConfiguration extends Serializable {
 class PushConfigurationImpl implements PushConfiguration {
     private UI ui;
     private PushConnectionFactory pushConnectionFactory;
+    private Integer pushCoalescingWindow;
+    private Integer maxPendingPushMessages;
 
     PushConfigurationImpl(UI ui) {
         this.ui = ui;
@@ -285,4 +344,46 @@ class PushConfigurationImpl implements PushConfiguration {
             pushConnectionFactory, "Push connection factory must not be null"
         );
     }
+
+    @Override
+    public void setPushCoalescingWindow(int milliseconds) {
+        if (milliseconds < 0) {
+            throw new IllegalArgumentException(
+                    "Push coalescing window cannot be negative");
+        }
+        pushCoalescingWindow = milliseconds;
+    }
+
+    @Override
+    public int getPushCoalescingWindow() {
+        if (pushCoalescingWindow != null) {
+            return pushCoalescingWindow;
+        }
+        VaadinSession session = ui.getSession();
+        if (session == null || session.getConfiguration() == null) {
+            return 0;
+        }
+        return session.getConfiguration().getPushCoalescingWindow();
+    }
+
+    @Override
+    public void setMaxPendingPushMessages(int maxPendingMessages) {
+        if (maxPendingMessages < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum number of pending push messages cannot be negative");
+        }
+        maxPendingPushMessages = maxPendingMessages;
+    }
+
+    @Override
+    public int getMaxPendingPushMessages() {
+        if (maxPendingPushMessages != null) {
+            return maxPendingPushMessages;
+        }
+        VaadinSession session = ui.getSession();
+        if (session == null || session.getConfiguration() == null) {
+            return 0;
+        }
+        return session.getConfiguration().getPushMaxPendingMessages();
+    }
 }
@@ -143,6 +143,12 @@ public class UIInternals implements Serializable {
      */
     private int lastProcessedClientToServerId = -1;
 
+    /**
+     * Pipelined messages from the client that arrived before the messages
+     * preceding them, by client to server id.
+     */
+    private final Map<Integer, String> pendingClientToServerMessages = new HashMap<>();
+
     private int serverSyncId = 0;
 
     private final StateTree stateTree;
@@ -277,6 +283,49 @@ public class UIInternals implements Serializable {
         this.lastProcessedMessageHash = lastProcessedMessageHash;
     }
 
+    /**
+     * Stores a client to server message that arrived before the messages
+     * preceding it, so that it can be processed once they have been processed.
+     * <p>
+     * Used internally for handling pipelined requests.
+     *
+     * @param clientToServerId
+     *            the id of the message
+     * @param message
+     *            the message as received from the client
+     */
+    public void addPendingClientToServerMessage(int clientToServerId,
+            String message) {
+        pendingClientToServerMessages.put(clientToServerId, message);
+    }
+
+    /**
+     * Removes and returns the stored client to server message with the given
+     * id.
+     * <p>
+     * Used internally for handling pipelined requests.
+     *
+     * @param clientToServerId
+     *            the id of the message
+     * @return the message as received from the client, or <code>null</code>
+     *         if no message with the given id has been stored
+     * @see #addPendingClientToServerMessage(int, String)
+     */
+    public String removePendingClientToServerMessage(int clientToServerId) {
+        return pendingClientToServerMessages.remove(clientToServerId);
+    }
+
+    /**
+     * Discards all stored client to server messages.
+     * <p>
+     * Used internally for handling pipelined requests.
+     *
+     * @see #addPendingClientToServerMessage(int, String)
+     */
+    public void clearPendingClientToServerMessages() {
+        pendingClientToServerMessages.clear();
+    }
+
     /**
      * Gets the server sync id.
      * <p>
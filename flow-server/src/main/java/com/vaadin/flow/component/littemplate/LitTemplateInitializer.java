@@ -64,6 +64,25 @@ public class LitTemplateInitializer {
         parserData = data;
     }
 
+    /**
+     * Parses the template of the given class and caches the result so that
+     * creating the first instance of the template does not need to parse it.
+     * Parser data is only cached in production mode, so this method does
+     * nothing in development mode.
+     *
+     * @param templateClass
+     *                          the template class to parse, not
+     *                          <code>null</code>
+     * @param service
+     *                          the related service, not <code>null</code>
+     */
+    public static void preloadParserData(
+            Class<? extends LitTemplate> templateClass, VaadinService service) {
+        if (service.getDeploymentConfiguration().isProductionMode()) {
+            CACHE.get(templateClass);
+        }
+    }
+
     /**
      * Initializes child elements.
      */
@@ -80,11 +80,7 @@ public class TemplateInitializer {
 
         ParserData data = null;
         if (productionMode) {
-            ReflectionCache<PolymerTemplate<?>, ParserData> cache = CACHE
-                    .computeIfAbsent(parser, analyzer -> new ReflectionCache<>(
-                            clazz -> new TemplateDataAnalyzer(clazz, analyzer,
-                                    service).parseTemplate()));
-            data = cache.get(templateClass);
+            data = getParserDataCache(parser, service).get(templateClass);
         }
         if (data == null) {
             data = new TemplateDataAnalyzer(templateClass, parser, service)
@@ -93,6 +89,35 @@ public class TemplateInitializer {
         parserData = data;
     }
 
+    /**
+     * Parses the template of the given class and caches the result so that
+     * creating the first instance of the template does not need to parse it.
+     * Parser data is only cached in production mode, so this method does
+     * nothing in development mode.
+     *
+     * @param templateClass
+     *            the template class to parse, not <code>null</code>
+     * @param parser
+     *            the template parser to use, not <code>null</code>
+     * @param service
+     *            the related service, not <code>null</code>
+     */
+    public static void preloadParserData(
+            Class<? extends PolymerTemplate<?>> templateClass,
+            TemplateParser parser, VaadinService service) {
+        if (service.getDeploymentConfiguration().isProductionMode()) {
+            getParserDataCache(parser, service).get(templateClass);
+        }
+    }
+
+    private static ReflectionCache<PolymerTemplate<?>, ParserData> getParserDataCache(
+            TemplateParser parser, VaadinService service) {
+        return CACHE.computeIfAbsent(parser,
+                analyzer -> new ReflectionCache<>(
+                        clazz -> new TemplateDataAnalyzer(clazz, analyzer,
+                                service).parseTemplate()));
+    }
+
     /**
      * Initializes child elements.
      */
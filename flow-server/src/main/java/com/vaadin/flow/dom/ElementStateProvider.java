@@ -16,6 +16,7 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -162,6 +163,25 @@ public interface ElementStateProvider extends Serializable {
      */
     void insertChild(StateNode node, int index, Element child);
 
+    /**
+     * Inserts the given children at the given position. The children must not
+     * have a parent.
+     *
+     * @param node
+     *            the node containing the data
+     * @param index
+     *            the position at which to insert the first new child
+     * @param children
+     *            the child elements to insert
+     */
+    default void insertChildren(StateNode node, int index,
+            Collection<Element> children) {
+        int insertIndex = index;
+        for (Element child : children) {
+            insertChild(node, insertIndex++, child);
+        }
+    }
+
     /**
      * Removes the child at the given position.
      *
@@ -16,8 +16,11 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -298,6 +301,85 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         return getSelf();
     }
 
+    /**
+     * Inserts the given child elements at the given position as one bulk
+     * operation.
+     * <p>
+     * When none of the children has a parent, all children are added to the
+     * children list at once and sent to the client as a single change. Attach
+     * events for the children are fired only after all of them have been
+     * added. Otherwise this works in the same way as
+     * {@link #insertChild(int, Element...)}.
+     *
+     * @param index
+     *            the position at which to insert the new children
+     * @param children
+     *            the child elements to insert, not <code>null</code>
+     * @return this element
+     */
+    public N insertChildren(int index, Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_ARRAY_CANNOT_BE_NULL);
+        }
+        if (index > getChildCount()) {
+            throw new IllegalArgumentException(String.format(
+                    CANNOT_X_WITH_INDEX_Y_WHEN_THERE_ARE_Z_CHILDREN, "insert",
+                    index, getChildCount()));
+        }
+
+        Set<Element> unique = new HashSet<>(children.size());
+        boolean bulk = true;
+        for (Element child : children) {
+            if (child == null) {
+                throw new IllegalArgumentException(
+                        "Element to insert must not be null");
+            }
+            if (child.getParentNode() != null || !unique.add(child)) {
+                bulk = false;
+                break;
+            }
+        }
+        if (!bulk) {
+            return insertChild(index, children.toArray(new Element[0]));
+        }
+
+        getStateProvider().insertChildren(node, index, children);
+        children.forEach(child -> ensureChildHasParent(child, true));
+
+        return getSelf();
+    }
+
+    /**
+     * Appends the given child elements as one bulk operation.
+     *
+     * @param children
+     *            the child elements to add, not <code>null</code>
+     * @return this element
+     * @see #insertChildren(int, Collection)
+     */
+    public N appendChildren(Collection<Element> children) {
+        return insertChildren(getChildCount(), children);
+    }
+
+    /**
+     * Replaces all current children with the given child elements. The new
+     * children are added as one bulk operation.
+     *
+     * @param children
+     *            the new child elements, not <code>null</code>
+     * @return this element
+     * @see #insertChildren(int, Collection)
+     */
+    public N setChildren(Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_ARRAY_CANNOT_BE_NULL);
+        }
+        removeAllChildren();
+        return insertChildren(0, children);
+    }
+
     /**
      * Returns the index of the specified {@code child} in the children list, or
      * -1 if this list does not contain the {@code child}.
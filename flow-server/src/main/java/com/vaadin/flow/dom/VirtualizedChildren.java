@@ -0,0 +1,299 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.shared.Registration;
+
+import elemental.json.JsonObject;
+
+/**
+ * Manages the children of a scrollable container element so that only the
+ * children in and around the visible part of the container exist as elements.
+ * <p>
+ * The children are described by an item count and a factory that creates the
+ * element for a given item index. All items are rendered with the same fixed
+ * height. The elements before and after the materialized range are replaced by
+ * padding of the container so that the scrollable height and the scroll
+ * position stay the same as if all children were present. When the container
+ * is scrolled on the client, the elements that have scrolled out of the
+ * materialized range are removed and the elements that have scrolled into it
+ * are created.
+ * <p>
+ * The children of the container element are managed by this class and should
+ * not be modified in any other way.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class VirtualizedChildren implements Serializable {
+
+    private static final int DEFAULT_VISIBLE_COUNT = 50;
+    private static final int DEFAULT_OVERSCAN = 20;
+    private static final int SCROLL_DEBOUNCE_TIMEOUT = 50;
+    /**
+     * Upper bound for the number of visible items reported by a scroll event,
+     * so that a client cannot make the server create any number of elements.
+     */
+    private static final int MAX_VISIBLE_COUNT = 500;
+
+    private static final String SCROLL_TOP = "element.scrollTop";
+    private static final String CLIENT_HEIGHT = "element.clientHeight";
+
+    private final Element container;
+    private final SerializableFunction<Integer, Element> childFactory;
+    private final int itemHeight;
+    private final Registration scrollRegistration;
+
+    private int itemCount;
+    private int overscan = DEFAULT_OVERSCAN;
+
+    private int firstVisible;
+    private int visibleCount = DEFAULT_VISIBLE_COUNT;
+
+    // Materialized range is [start, end)
+    private int start;
+    private int end;
+
+    /**
+     * Creates a new instance managing the children of the given container.
+     * Any existing children of the container are removed.
+     *
+     * @param container
+     *            the scrollable container element, not <code>null</code>
+     * @param itemHeight
+     *            the height of each child in pixels, greater than zero
+     * @param childFactory
+     *            a function creating the element for an item index, not
+     *            <code>null</code>
+     */
+    public VirtualizedChildren(Element container, int itemHeight,
+            SerializableFunction<Integer, Element> childFactory) {
+        if (itemHeight <= 0) {
+            throw new IllegalArgumentException(
+                    "Item height must be greater than zero");
+        }
+        this.container = Objects.requireNonNull(container,
+                "Container cannot be null");
+        this.childFactory = Objects.requireNonNull(childFactory,
+                "Child factory cannot be null");
+        this.itemHeight = itemHeight;
+
+        container.removeAllChildren();
+        container.getStyle().set("overflow-y", "auto");
+        container.getStyle().set("box-sizing", "border-box");
+        scrollRegistration = container.addEventListener("scroll", this::onScroll)
+                .addEventData(SCROLL_TOP).addEventData(CLIENT_HEIGHT)
+                .debounce(SCROLL_DEBOUNCE_TIMEOUT, DebouncePhase.INTERMEDIATE,
+                        DebouncePhase.TRAILING);
+        updatePadding();
+    }
+
+    private void onScroll(DomEvent event) {
+        JsonObject data = event.getEventData();
+        // The values come from the client and are not trusted
+        double scrollTop = data.getNumber(SCROLL_TOP);
+        double clientHeight = data.getNumber(CLIENT_HEIGHT);
+        int first = clamp(Math.floor(scrollTop / itemHeight), itemCount);
+        int visible = clamp(Math.ceil(clientHeight / itemHeight) + 1,
+                MAX_VISIBLE_COUNT);
+        setViewport(first, visible);
+    }
+
+    private static int clamp(double value, int max) {
+        if (!(value > 0)) {
+            // Also handles NaN
+            return 0;
+        }
+        return (int) Math.min(value, max);
+    }
+
+    /**
+     * Sets the number of items. Materialized children with an index beyond
+     * the new count are removed and new children are created if the visible
+     * range now contains more items.
+     *
+     * @param itemCount
+     *            the number of items, not negative
+     */
+    public void setItemCount(int itemCount) {
+        if (itemCount < 0) {
+            throw new IllegalArgumentException(
+                    "Item count cannot be negative");
+        }
+        this.itemCount = itemCount;
+        updateMaterializedRange();
+    }
+
+    /**
+     * Gets the number of items.
+     *
+     * @return the number of items
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Sets the number of items to keep materialized before and after the
+     * visible items. A larger value reduces the number of round trips while
+     * scrolling at the cost of more elements.
+     *
+     * @param overscan
+     *            the number of extra items on each side, not negative
+     */
+    public void setOverscan(int overscan) {
+        if (overscan < 0) {
+            throw new IllegalArgumentException("Overscan cannot be negative");
+        }
+        this.overscan = overscan;
+        updateMaterializedRange();
+    }
+
+    /**
+     * Gets the number of items kept materialized before and after the visible
+     * items.
+     *
+     * @return the number of extra items on each side
+     */
+    public int getOverscan() {
+        return overscan;
+    }
+
+    /**
+     * Sets the visible range of items. This is called automatically when the
+     * container is scrolled on the client and can be used to set the initial
+     * range. It does not change the scroll position on the client, use
+     * {@link #scrollToIndex(int)} for that.
+     *
+     * @param firstVisible
+     *            the index of the first visible item, not negative
+     * @param visibleCount
+     *            the number of visible items, not negative
+     */
+    public void setViewport(int firstVisible, int visibleCount) {
+        if (firstVisible < 0 || visibleCount < 0) {
+            throw new IllegalArgumentException(
+                    "Viewport start and size cannot be negative");
+        }
+        this.firstVisible = firstVisible;
+        this.visibleCount = visibleCount;
+        updateMaterializedRange();
+    }
+
+    /**
+     * Scrolls the container on the client so that the item with the given
+     * index is the first visible item, and materializes the items around it.
+     *
+     * @param index
+     *            the index of the item to scroll to, not negative
+     */
+    public void scrollToIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+        setViewport(index, visibleCount);
+        container.executeJs("this.scrollTop=$0", (double) index * itemHeight);
+    }
+
+    /**
+     * Recreates all materialized children, e.g. after the data behind the
+     * items has changed.
+     */
+    public void refresh() {
+        container.removeAllChildren();
+        start = end = 0;
+        updateMaterializedRange();
+    }
+
+    /**
+     * Gets the index of the first item that currently exists as an element.
+     *
+     * @return the index of the first materialized item
+     */
+    public int getMaterializedStart() {
+        return start;
+    }
+
+    /**
+     * Gets the number of items that currently exist as elements.
+     *
+     * @return the number of materialized items
+     */
+    public int getMaterializedCount() {
+        return end - start;
+    }
+
+    /**
+     * Stops managing the children of the container. The current children are
+     * left in place.
+     */
+    public void remove() {
+        scrollRegistration.remove();
+    }
+
+    private void updateMaterializedRange() {
+        int newStart = Math.min(Math.max(0, firstVisible - overscan),
+                itemCount);
+        int newEnd = (int) Math.min(
+                (long) firstVisible + visibleCount + overscan, itemCount);
+        newEnd = Math.max(newStart, newEnd);
+
+        if (newStart >= end || newEnd <= start) {
+            // No overlap, nothing can be reused
+            container.removeAllChildren();
+            container.appendChild(createChildren(newStart, newEnd));
+        } else {
+            for (int i = end; i > newEnd; i--) {
+                container.removeChild(container.getChildCount() - 1);
+            }
+            for (int i = start; i < newStart; i++) {
+                container.removeChild(0);
+            }
+            if (newStart < start) {
+                container.insertChild(0, createChildren(newStart, start));
+            }
+            if (end < newEnd) {
+                container.appendChild(createChildren(end, newEnd));
+            }
+        }
+        start = newStart;
+        end = newEnd;
+        updatePadding();
+    }
+
+    private Element[] createChildren(int from, int to) {
+        Element[] children = new Element[to - from];
+        String height = itemHeight + "px";
+        for (int i = from; i < to; i++) {
+            Element child = childFactory.apply(i);
+            child.getStyle().set("height", height);
+            child.getStyle().set("box-sizing", "border-box");
+            children[i - from] = child;
+        }
+        return children;
+    }
+
+    private void updatePadding() {
+        container.getStyle().set("padding-top",
+                (long) start * itemHeight + "px");
+        container.getStyle().set("padding-bottom",
+                (long) (itemCount - end) * itemHeight + "px");
+    }
+}
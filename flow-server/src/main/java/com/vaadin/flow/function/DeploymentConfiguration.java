@@ -391,4 +391,119 @@ public interface DeploymentConfiguration extends Serializable {
         return getBooleanProperty(InitParameters.SERVLET_PARAMETER_ENABLE_PNPM,
                 Boolean.valueOf(Constants.ENABLE_PNPM_DEFAULT_STRING));
     }
+
+    /**
+     * Returns the default push coalescing window of UIs, i.e. the minimum time
+     * in milliseconds between two asynchronous pushes to the same client.
+     * <p>
+     * The default value is <code>0</code> which means that every push is sent
+     * immediately.
+     *
+     * @return the push coalescing window in milliseconds
+     */
+    default int getPushCoalescingWindow() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PUSH_COALESCING_WINDOW, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns the default maximum number of push messages that may be waiting
+     * to be delivered to a single client before asynchronous pushes to it are
+     * held back.
+     * <p>
+     * The default value is <code>0</code> which means that the number of
+     * pending messages is not limited.
+     *
+     * @return the maximum number of pending push messages per UI
+     */
+    default int getPushMaxPendingMessages() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PUSH_MAX_PENDING_MESSAGES, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns the maximum size of the push messages, in characters, that may be
+     * waiting to be delivered to a single client. A push connection exceeding
+     * the limit is closed so that a slow client cannot exhaust the server
+     * memory; the client reconnects and resynchronizes its state.
+     * <p>
+     * The default value is <code>0</code> which means that the size of pending
+     * messages is not limited.
+     *
+     * @return the maximum size of pending push messages per UI
+     */
+    default int getPushMaxPendingChars() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_PUSH_MAX_PENDING_CHARS, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns the maximum number of stream resource downloads that a single
+     * session may have in progress at the same time. Further downloads are
+     * rejected with HTTP status 503 until one of the downloads has finished.
+     * <p>
+     * The default value is <code>0</code> which means that the number of
+     * downloads is not limited.
+     *
+     * @return the maximum number of concurrent downloads per session
+     */
+    default int getMaxConcurrentDownloadsPerSession() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_MAX_CONCURRENT_DOWNLOADS, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns whether the metadata of routes and the components used by them
+     * should be computed when the service is initialized instead of on first
+     * use.
+     * <p>
+     * By default it is <code>false</code>.
+     *
+     * @return <code>true</code> to warm up metadata at startup,
+     *         <code>false</code> otherwise
+     * @see com.vaadin.flow.server.MetadataWarmUp
+     */
+    default boolean isMetadataWarmUpEnabled() {
+        return getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_METADATA_WARM_UP, false);
+    }
+
+    /**
+     * Returns the path of the file used for storing the classes to warm up
+     * between application starts, if any.
+     *
+     * @return the snapshot file path, or <code>null</code> to not use a
+     *         snapshot
+     * @see #isMetadataWarmUpEnabled()
+     */
+    default String getMetadataWarmUpSnapshot() {
+        return getStringProperty(
+                InitParameters.SERVLET_PARAMETER_METADATA_WARM_UP_SNAPSHOT,
+                null);
+    }
+
+    /**
+     * Returns the maximum number of UIDL requests that the client may send
+     * without waiting for the responses to the previous ones. The server
+     * processes pipelined requests in the order they were sent. A request that
+     * arrives before a preceding one is stored with the UI, without blocking,
+     * and processed once the preceding requests have been processed. Since
+     * only requests less than this many messages ahead are stored, at most
+     * this number minus one requests are stored per UI. Stored requests are
+     * discarded if the client resynchronizes or sends an unexpected message.
+     * <p>
+     * By default it is <code>1</code>, which means that requests are not
+     * pipelined.
+     *
+     * @return the maximum number of outstanding requests per UI
+     */
+    default int getMaxPipelinedRequests() {
+        return getApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_MAX_PIPELINED_REQUESTS, 1,
+                Integer::parseInt);
+    }
 }
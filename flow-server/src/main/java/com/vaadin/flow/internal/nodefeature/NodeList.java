@@ -212,14 +212,35 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
             return;
         }
 
-        List<? extends T> itemsList = new ArrayList<>(items);
+        ensureValues();
+        insertItems(values.size(), items);
+    }
+
+    /**
+     * Inserts all provided items at the given index of the list. The items are
+     * tracked as one change regardless of how many they are.
+     *
+     * @param index
+     *            index to insert at
+     * @param items
+     *            a collection of items to insert, not null
+     */
+    protected void addAll(int index, Collection<? extends T> items) {
+        assert items != null;
+        if (items.isEmpty()) {
+            return;
+        }
 
         ensureValues();
+        insertItems(index, items);
+    }
+
+    private void insertItems(int index, Collection<? extends T> items) {
+        List<? extends T> itemsList = new ArrayList<>(items);
 
-        int startIndex = values.size();
-        values.addAll(itemsList);
+        values.addAll(index, itemsList);
 
-        addChange(new ListAddChange<>(this, isNodeValues(), startIndex,
+        addChange(new ListAddChange<>(this, isNodeValues(), index,
                 itemsList));
     }
 
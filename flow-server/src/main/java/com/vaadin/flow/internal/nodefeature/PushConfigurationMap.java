@@ -164,4 +164,28 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
     public void setPushConnectionFactory(PushConnectionFactory factory) {
         throw new UnsupportedOperationException("Setting push connection factory is not supported");
     }
+
+    @Override
+    public void setPushCoalescingWindow(int milliseconds) {
+        throw new UnsupportedOperationException(
+                "Setting push coalescing window is not supported");
+    }
+
+    @Override
+    public int getPushCoalescingWindow() {
+        throw new UnsupportedOperationException(
+                "Getting push coalescing window is not supported");
+    }
+
+    @Override
+    public void setMaxPendingPushMessages(int maxPendingMessages) {
+        throw new UnsupportedOperationException(
+                "Setting maximum pending push messages is not supported");
+    }
+
+    @Override
+    public int getMaxPendingPushMessages() {
+        throw new UnsupportedOperationException(
+                "Getting maximum pending push messages is not supported");
+    }
 }
@@ -59,6 +59,13 @@ public abstract class StateNodeNodeList extends NodeList<StateNode> {
         items.forEach(this::attachPotentialChild);
     }
 
+    @Override
+    protected void addAll(int index, Collection<? extends StateNode> items) {
+        // All items are in the list before any attach listener runs
+        super.addAll(index, items);
+        items.forEach(this::attachPotentialChild);
+    }
+
     @Override
     protected StateNode remove(int index) {
         StateNode removed = super.remove(index);
@@ -1130,6 +1130,11 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             appConfig.put("maxMessageSuspendTimeout",
                     deploymentConfiguration.getMaxMessageSuspendTimeout());
 
+            if (deploymentConfiguration.getMaxPipelinedRequests() > 1) {
+                appConfig.put("maxPipelinedRequests",
+                        deploymentConfiguration.getMaxPipelinedRequests());
+            }
+
             boolean sendUrlsAsParameters = deploymentConfiguration
                     .isSendUrlsAsParameters();
             if (!sendUrlsAsParameters) {
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.ServerSocket;
@@ -31,9 +32,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -49,6 +57,7 @@ import com.vaadin.flow.server.frontend.FrontendTools;
 import com.vaadin.flow.server.frontend.FrontendUtils;
 
 import static com.vaadin.flow.server.Constants.VAADIN_MAPPING;
+import static com.vaadin.flow.server.InitParameters.SERVLET_PARAMETER_DEVMODE_PROXY_MAX_CONNECTIONS;
 import static com.vaadin.flow.server.InitParameters.SERVLET_PARAMETER_DEVMODE_WEBPACK_ERROR_PATTERN;
 import static com.vaadin.flow.server.InitParameters.SERVLET_PARAMETER_DEVMODE_WEBPACK_OPTIONS;
 import static com.vaadin.flow.server.InitParameters.SERVLET_PARAMETER_DEVMODE_WEBPACK_SUCCESS_PATTERN;
@@ -101,6 +110,25 @@ public final class DevModeHandler implements RequestHandler {
     private static final int DEFAULT_TIMEOUT = 120 * 1000;
     private static final String WEBPACK_HOST = "http://localhost";
 
+    // HttpURLConnection keeps at most this many idle connections per host
+    // alive, so proxying more requests concurrently would open new
+    // connections that are closed again after use
+    private static final String HTTP_MAX_CONNECTIONS = "http.maxConnections";
+    private static final int DEFAULT_HTTP_MAX_CONNECTIONS = 5;
+
+    // Webpack adds a content hash to the names of the generated chunks, so
+    // their content never changes and they can be kept in memory
+    private static final Pattern IMMUTABLE_RESOURCE = Pattern
+            .compile("-[0-9a-f]{8,}\\.cache\\.js$");
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    // Headers that only apply to a single connection and must not be
+    // forwarded by a proxy
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(
+            Arrays.asList("connection", "keep-alive", "proxy-authenticate",
+                    "proxy-authorization", "te", "trailer",
+                    "transfer-encoding", "upgrade"));
+
     private boolean notified = false;
 
     private volatile String failedOutput;
@@ -119,11 +147,20 @@ public final class DevModeHandler implements RequestHandler {
 
     private final CompletableFuture<Void> devServerStartFuture;
 
+    private final Semaphore proxyPermits;
+    private final Map<String, CachedResource> immutableResources = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+
     private DevModeHandler(DeploymentConfiguration config, int runningPort,
             File npmFolder, CompletableFuture<Void> waitFor) {
 
         port = runningPort;
         reuseDevServer = config.reuseDevServer();
+        proxyPermits = new Semaphore(Math.max(1,
+                Integer.parseInt(config.getStringProperty(
+                        SERVLET_PARAMETER_DEVMODE_PROXY_MAX_CONNECTIONS,
+                        String.valueOf(getKeepAliveConnections())))),
+                true);
 
         devServerStartFuture = waitFor.whenCompleteAsync((value, exception) -> {
             // this will throw an exception if an exception has been thrown by
@@ -134,6 +171,20 @@ public final class DevModeHandler implements RequestHandler {
 
     }
 
+    /**
+     * Gets the maximum number of idle connections per host that
+     * {@link HttpURLConnection} keeps alive, as configured by the
+     * {@code http.maxConnections} system property.
+     *
+     * @return the number of connections kept alive per host
+     */
+    static int getKeepAliveConnections() {
+        int maxConnections = Integer.getInteger(HTTP_MAX_CONNECTIONS,
+                DEFAULT_HTTP_MAX_CONNECTIONS);
+        return maxConnections > 0 ? maxConnections
+                : DEFAULT_HTTP_MAX_CONNECTIONS;
+    }
+
     /**
      * Start the dev mode handler if none has been started yet.
      *
@@ -248,6 +299,12 @@ public final class DevModeHandler implements RequestHandler {
      * Note: it considers the {@link HttpServletRequest#getPathInfo} that will
      * be the path passed to the 'webpack-dev-server' which is running in the
      * context root folder of the application.
+     * <p>
+     * The connections to webpack are kept alive and reused for subsequent
+     * requests. The number of concurrently proxied requests is limited by
+     * {@link InitParameters#SERVLET_PARAMETER_DEVMODE_PROXY_MAX_CONNECTIONS}.
+     * Chunks with a content hash in their name are kept in memory after they
+     * have been fetched once.
      *
      * @param request
      *            the servlet request
@@ -263,17 +320,52 @@ public final class DevModeHandler implements RequestHandler {
         // a valid request for webpack-dev-server should start with '/VAADIN/'
         String requestFilename = request.getPathInfo();
 
+        boolean immutable = "GET".equals(request.getMethod())
+                && requestFilename != null
+                && IMMUTABLE_RESOURCE.matcher(requestFilename).find();
+        if (immutable) {
+            CachedResource cached = immutableResources.get(requestFilename);
+            if (cached != null) {
+                getLogger().debug("Served cached resource {}",
+                        requestFilename);
+                cached.writeTo(response);
+                return true;
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            proxyPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while waiting for a connection to webpack");
+        }
+        try {
+            return proxyRequest(request, response, requestFilename,
+                    immutable);
+        } finally {
+            proxyPermits.release();
+            getLogger().debug("Proxied {} to webpack in {} ms",
+                    requestFilename, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private boolean proxyRequest(HttpServletRequest request,
+            HttpServletResponse response, String requestFilename,
+            boolean immutable) throws IOException {
         HttpURLConnection connection = prepareConnection(requestFilename,
                 request.getMethod());
 
-        // Copies all the headers from the original request
+        // Copies the end-to-end headers from the original request, the
+        // connection to webpack is managed separately
         Enumeration<String> headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             String header = headerNames.nextElement();
-            connection.setRequestProperty(header,
-                    // Exclude keep-alive
-                    "Connect".equals(header) ? "close"
-                            : request.getHeader(header));
+            if (!isHopByHopHeader(header)) {
+                connection.setRequestProperty(header,
+                        request.getHeader(header));
+            }
         }
 
         // Send the request
@@ -283,6 +375,7 @@ public final class DevModeHandler implements RequestHandler {
         if (responseCode == HTTP_NOT_FOUND) {
             getLogger().debug("Resource not served by webpack {}",
                     requestFilename);
+            releaseConnection(connection);
             // webpack cannot access the resource, return false so as flow can
             // handle it
             return false;
@@ -291,21 +384,34 @@ public final class DevModeHandler implements RequestHandler {
                 requestFilename);
 
         // Copies response headers
+        List<Pair<String, String>> headers = new ArrayList<>();
         connection.getHeaderFields().forEach((header, values) -> {
-            if (header != null) {
+            if (header != null && !isHopByHopHeader(header)) {
                 response.addHeader(header, values.get(0));
+                headers.add(new Pair<>(header, values.get(0)));
             }
         });
 
         if (responseCode == HTTP_OK) {
             // Copies response payload
-            writeStream(response.getOutputStream(),
-                    connection.getInputStream());
-        } else if (responseCode < 400) {
-            response.setStatus(responseCode);
+            try (InputStream body = connection.getInputStream()) {
+                if (immutable) {
+                    byte[] content = IOUtils.toByteArray(body);
+                    response.getOutputStream().write(content);
+                    cacheResource(requestFilename,
+                            new CachedResource(headers, content));
+                } else {
+                    writeStream(response.getOutputStream(), body);
+                }
+            }
         } else {
-            // Copies response code
-            response.sendError(responseCode);
+            releaseConnection(connection);
+            if (responseCode < 400) {
+                response.setStatus(responseCode);
+            } else {
+                // Copies response code
+                response.sendError(responseCode);
+            }
         }
 
         // Close request to avoid issues in CI and Chrome
@@ -314,6 +420,33 @@ public final class DevModeHandler implements RequestHandler {
         return true;
     }
 
+    private void cacheResource(String path, CachedResource resource) {
+        long size = resource.content.length;
+        if (cachedBytes.addAndGet(size) > MAX_CACHED_BYTES) {
+            cachedBytes.addAndGet(-size);
+        } else if (immutableResources.putIfAbsent(path, resource) != null) {
+            cachedBytes.addAndGet(-size);
+        }
+    }
+
+    /**
+     * Reads the remaining body of the response so that the underlying
+     * connection can be reused for the next request.
+     */
+    private static void releaseConnection(HttpURLConnection connection) {
+        try (InputStream body = connection.getErrorStream() != null
+                ? connection.getErrorStream()
+                : connection.getInputStream()) {
+            IOUtils.skip(body, Long.MAX_VALUE);
+        } catch (IOException e) { // NOSONAR
+            // Nothing to release, e.g. a response without a body
+        }
+    }
+
+    private static boolean isHopByHopHeader(String header) {
+        return HOP_BY_HOP_HEADERS.contains(header.toLowerCase(Locale.ENGLISH));
+    }
+
     private boolean checkWebpackConnection() {
         try {
             prepareConnection("/", "GET").getResponseCode();
@@ -441,6 +574,28 @@ public final class DevModeHandler implements RequestHandler {
         return LoggerFactory.getLogger(DevModeHandler.class);
     }
 
+    /**
+     * A response of webpack for a resource whose content never changes.
+     */
+    private static final class CachedResource {
+        private final List<Pair<String, String>> headers;
+        private final byte[] content;
+
+        private CachedResource(List<Pair<String, String>> headers,
+                byte[] content) {
+            this.headers = headers;
+            this.content = content;
+        }
+
+        private void writeTo(HttpServletResponse response) throws IOException {
+            headers.forEach(header -> response.addHeader(header.getFirst(),
+                    header.getSecond()));
+            ServletOutputStream output = response.getOutputStream();
+            output.write(content);
+            output.close();
+        }
+    }
+
     /**
      * Return webpack console output when a compilation error happened.
      *
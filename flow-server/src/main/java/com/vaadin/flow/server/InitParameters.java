@@ -130,6 +130,81 @@ public class InitParameters implements Serializable {
      */
     public static final String SERVLET_PARAMETER_DEVMODE_ENABLE_LIVE_RELOAD = "devmode.liveReload.enabled";
 
+    /**
+     * Configuration name for the maximum number of requests that are proxied
+     * to the webpack-dev-server concurrently. Further requests wait until a
+     * running request completes.
+     * <p>
+     * Defaults to the number of connections per host that the JDK keeps alive,
+     * which is set by the {@code http.maxConnections} system property (5 if
+     * not set). When setting a higher value, raise {@code http.maxConnections}
+     * accordingly, since connections beyond the JDK limit are closed after
+     * each request instead of being reused.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_DEVMODE_PROXY_MAX_CONNECTIONS = "devmode.proxy.maxConnections";
+
+    /**
+     * Configuration name for the minimum time in milliseconds between two
+     * asynchronous pushes to the same UI. Pushes requested within the window
+     * are coalesced into a single trailing push.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_PUSH_COALESCING_WINDOW = "pushCoalescingWindow";
+
+    /**
+     * Configuration name for the maximum number of push messages that may be
+     * waiting to be written to a single client before further asynchronous
+     * pushes are held back.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_PUSH_MAX_PENDING_MESSAGES = "pushMaxPendingMessages";
+
+    /**
+     * Configuration name for the maximum size, in characters, of the push
+     * messages that may be waiting to be written to a single client. A
+     * connection that exceeds the limit is closed, which makes the client
+     * reconnect and resynchronize its state.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_PUSH_MAX_PENDING_CHARS = "pushMaxPendingChars";
+
+    /**
+     * Configuration name for the maximum number of stream resource downloads
+     * that a single session may have in progress at the same time.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_MAX_CONCURRENT_DOWNLOADS = "maxConcurrentDownloads";
+
+    /**
+     * Configuration name for enabling the warm-up of component and template
+     * metadata when the service is initialized.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_METADATA_WARM_UP = "metadataWarmUp";
+
+    /**
+     * Configuration name for the file in which the classes to warm up are
+     * stored between application starts.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_METADATA_WARM_UP_SNAPSHOT = "metadataWarmUpSnapshot";
+
+    /**
+     * Configuration name for the maximum number of UIDL requests that the
+     * client may send without waiting for the previous responses.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_MAX_PIPELINED_REQUESTS = "maxPipelinedRequests";
+
     /**
      * I18N provider property.
      */
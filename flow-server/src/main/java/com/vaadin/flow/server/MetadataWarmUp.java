@@ -0,0 +1,354 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.googlecode.gentyref.GenericTypeReflector;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.ComponentEventBusUtil;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DomEvent;
+import com.vaadin.flow.component.dependency.Uses;
+import com.vaadin.flow.component.littemplate.LitTemplate;
+import com.vaadin.flow.component.littemplate.LitTemplateInitializer;
+import com.vaadin.flow.component.polymertemplate.AbstractTemplate;
+import com.vaadin.flow.component.polymertemplate.PolymerTemplate;
+import com.vaadin.flow.component.polymertemplate.TemplateInitializer;
+import com.vaadin.flow.internal.AnnotationReader;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.internal.MessageDigestUtil;
+import com.vaadin.flow.router.RouteData;
+import com.vaadin.flow.templatemodel.ModelDescriptor;
+import com.vaadin.flow.templatemodel.TemplateModel;
+import com.vaadin.flow.templatemodel.TemplateModelProxyHandler;
+
+/**
+ * Computes the metadata that is otherwise lazily computed when a component
+ * class is used for the first time: component metadata, event type data,
+ * parsed template data, template model descriptors and model proxy classes.
+ * <p>
+ * The warmed up classes are the registered route targets, their parent
+ * layouts and all component classes reachable from those through
+ * {@link Uses @Uses} annotations and component typed fields. The classes are
+ * processed in parallel, with the service set as the current service. Failures
+ * are logged and otherwise ignored since the same metadata is computed again
+ * when the class is actually used.
+ * <p>
+ * If a snapshot file is configured, the names of the found classes are stored
+ * in it and read from it on the next start instead of scanning the classes
+ * again. The snapshot is stored together with a key computed from the
+ * registered routes and their parent layouts. The classes are scanned again
+ * and the snapshot is replaced if the routes have changed. Components that
+ * only become used by an unchanged route are not detected, so the file should
+ * be removed after such changes.
+ * <p>
+ * The warm-up is enabled using
+ * {@link com.vaadin.flow.function.DeploymentConfiguration#isMetadataWarmUpEnabled()}.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class MetadataWarmUp {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "# ";
+
+    private final VaadinService service;
+
+    /**
+     * Creates a new warm-up for the given service.
+     *
+     * @param service
+     *            the service to warm up metadata for, not <code>null</code>
+     */
+    public MetadataWarmUp(VaadinService service) {
+        this.service = Objects.requireNonNull(service,
+                "Service cannot be null");
+    }
+
+    /**
+     * Finds the component classes to warm up and computes their metadata.
+     *
+     * @return the number of warmed up component classes
+     */
+    public int run() {
+        long start = System.nanoTime();
+
+        String snapshot = service.getDeploymentConfiguration()
+                .getMetadataWarmUpSnapshot();
+        Collection<Class<? extends Component>> componentClasses = null;
+        String snapshotKey = null;
+        if (snapshot != null) {
+            snapshotKey = getSnapshotKey();
+            componentClasses = readSnapshot(Paths.get(snapshot), snapshotKey);
+        }
+        if (componentClasses == null) {
+            componentClasses = collectComponentClasses();
+            if (snapshot != null) {
+                writeSnapshot(Paths.get(snapshot), snapshotKey,
+                        componentClasses);
+            }
+        }
+
+        int failures = warmUp(componentClasses);
+
+        getLogger().info(
+                "Warmed up metadata of {} component classes in {} ms ({} failed)",
+                componentClasses.size(),
+                (System.nanoTime() - start) / 1_000_000, failures);
+        return componentClasses.size();
+    }
+
+    /**
+     * Collects the route targets, their parent layouts and all component
+     * classes used by them.
+     *
+     * @return the component classes to warm up
+     */
+    Set<Class<? extends Component>> collectComponentClasses() {
+        Deque<Class<? extends Component>> queue = new ArrayDeque<>();
+        for (RouteData route : service.getRouteRegistry()
+                .getRegisteredRoutes()) {
+            queue.add(route.getNavigationTarget());
+            queue.addAll(route.getParentLayouts().stream()
+                    .filter(Component.class::isAssignableFrom)
+                    .map(layout -> layout.asSubclass(Component.class))
+                    .collect(Collectors.toList()));
+        }
+
+        Set<Class<? extends Component>> classes = new LinkedHashSet<>();
+        while (!queue.isEmpty()) {
+            Class<? extends Component> type = queue.poll();
+            if (classes.add(type)) {
+                queue.addAll(getUsedComponentClasses(type));
+            }
+        }
+        return classes;
+    }
+
+    private static Set<Class<? extends Component>> getUsedComponentClasses(
+            Class<? extends Component> type) {
+        Set<Class<? extends Component>> used = new LinkedHashSet<>();
+        AnnotationReader.getAnnotationsFor(type, Uses.class)
+                .forEach(uses -> used.add(uses.value()));
+        for (Class<?> current = type; current != Component.class
+                && current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Component.class.isAssignableFrom(field.getType())
+                        && !Modifier.isAbstract(
+                                field.getType().getModifiers())) {
+                    used.add(field.getType().asSubclass(Component.class));
+                }
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Computes the metadata of the given component classes in parallel.
+     *
+     * @param componentClasses
+     *            the component classes to warm up
+     * @return the number of classes for which the warm-up failed
+     */
+    int warmUp(Collection<Class<? extends Component>> componentClasses) {
+        AtomicInteger failures = new AtomicInteger();
+        componentClasses.parallelStream().forEach(type -> {
+            // Tasks run both in the calling thread and in pool threads
+            Map<Class<?>, CurrentInstance> old = CurrentInstance
+                    .getInstances();
+            VaadinService.setCurrent(service);
+            try {
+                warmUp(type);
+            } catch (RuntimeException | LinkageError e) { // NOSONAR
+                failures.incrementAndGet();
+                getLogger().debug("Unable to warm up metadata of {}",
+                        type.getName(), e);
+            } finally {
+                CurrentInstance.clearAll();
+                CurrentInstance.restoreInstances(old);
+            }
+        });
+        return failures.get();
+    }
+
+    /**
+     * Computes the metadata of the given component class. Called with the
+     * service set as the current service.
+     *
+     * @param type
+     *            the component class to warm up
+     */
+    @SuppressWarnings("unchecked")
+    void warmUp(Class<? extends Component> type) {
+        ComponentUtil.getSynchronizedProperties(type);
+        ComponentUtil.getDependencies(service, type);
+        warmUpEventTypes(type);
+
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return;
+        }
+        if (PolymerTemplate.class.isAssignableFrom(type)) {
+            TemplateInitializer.preloadParserData(
+                    (Class<? extends PolymerTemplate<?>>) type,
+                    service.getInstantiator().getTemplateParser(), service);
+        } else if (LitTemplate.class.isAssignableFrom(type)) {
+            LitTemplateInitializer.preloadParserData(
+                    type.asSubclass(LitTemplate.class), service);
+        }
+        if (AbstractTemplate.class.isAssignableFrom(type)) {
+            Type modelType = GenericTypeReflector.getTypeParameter(type,
+                    AbstractTemplate.class.getTypeParameters()[0]);
+            if (modelType != null) {
+                Class<?> modelClass = GenericTypeReflector.erase(modelType);
+                if (TemplateModel.class.isAssignableFrom(modelClass)) {
+                    TemplateModelProxyHandler.preloadProxyTypes(ModelDescriptor
+                            .get(modelClass.asSubclass(TemplateModel.class)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the DOM event types used by the public
+     * {@code add...Listener(ComponentEventListener<T>)} methods of the class.
+     */
+    @SuppressWarnings("unchecked")
+    private static void warmUpEventTypes(Class<? extends Component> type) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() != 1 || !ComponentEventListener.class
+                    .equals(method.getParameterTypes()[0])) {
+                continue;
+            }
+            Type listenerType = GenericTypeReflector
+                    .getExactParameterTypes(method, type)[0];
+            Type eventType = GenericTypeReflector.getTypeParameter(
+                    listenerType,
+                    ComponentEventListener.class.getTypeParameters()[0]);
+            if (eventType == null) {
+                continue;
+            }
+            Class<?> eventClass = GenericTypeReflector.erase(eventType);
+            if (ComponentEvent.class.isAssignableFrom(eventClass)
+                    && eventClass.isAnnotationPresent(DomEvent.class)) {
+                ComponentEventBusUtil.getEventDataExpressions(
+                        (Class<? extends ComponentEvent<?>>) eventClass);
+            }
+        }
+    }
+
+    /**
+     * Computes a key which changes whenever the registered routes or their
+     * parent layouts change.
+     */
+    private String getSnapshotKey() {
+        List<String> routes = service.getRouteRegistry().getRegisteredRoutes()
+                .stream()
+                .map(route -> route.getTemplate() + "="
+                        + route.getNavigationTarget().getName()
+                        + route.getParentLayouts().stream().map(Class::getName)
+                                .collect(Collectors.joining(",", "[", "]")))
+                .sorted().collect(Collectors.toList());
+        return Base64.getEncoder().encodeToString(
+                MessageDigestUtil.sha256(String.join("\n", routes)));
+    }
+
+    private Collection<Class<? extends Component>> readSnapshot(Path file,
+            String key) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            getLogger().warn("Unable to read metadata warm-up snapshot {}",
+                    file, e);
+            return null;
+        }
+        if (lines.isEmpty()
+                || !lines.get(0).equals(SNAPSHOT_KEY_PREFIX + key)) {
+            getLogger().info(
+                    "The routes have changed since the metadata warm-up snapshot {} was written, scanning the classes again",
+                    file);
+            return null;
+        }
+        Set<Class<? extends Component>> classes = new LinkedHashSet<>();
+        for (String className : lines.subList(1, lines.size())) {
+            if (className.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                Class<?> type = Class.forName(className.trim(), false,
+                        service.getClassLoader());
+                if (Component.class.isAssignableFrom(type)) {
+                    classes.add(type.asSubclass(Component.class));
+                }
+            } catch (ClassNotFoundException | LinkageError e) { // NOSONAR
+                getLogger().debug(
+                        "Ignoring unknown class {} in metadata warm-up snapshot",
+                        className);
+            }
+        }
+        return classes;
+    }
+
+    private static void writeSnapshot(Path file, String key,
+            Collection<Class<? extends Component>> classes) {
+        List<String> lines = new ArrayList<>();
+        lines.add(SNAPSHOT_KEY_PREFIX + key);
+        classes.stream().map(Class::getName).forEach(lines::add);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            getLogger().warn("Unable to write metadata warm-up snapshot {}",
+                    file, e);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(MetadataWarmUp.class.getName());
+    }
+}
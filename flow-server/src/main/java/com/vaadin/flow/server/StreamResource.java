@@ -62,7 +62,7 @@ public class StreamResource extends AbstractStreamResource {
 
     private static class Pipe implements StreamResourceWriter {
 
-        private static final int BUFFER_SIZE = 1024;
+        private static final int BUFFER_SIZE = 32 * 1024;
 
         private InputStreamFactory factory;
 
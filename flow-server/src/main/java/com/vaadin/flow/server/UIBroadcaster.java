@@ -0,0 +1,320 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.internal.JsonCodec;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Delivers the same update to a group of UIs, typically from a background
+ * thread.
+ * <p>
+ * Registered UIs are grouped by their session so that each session is accessed
+ * only once per broadcast, and the sessions are accessed in parallel using the
+ * executor given to the broadcaster. Each session is accessed using
+ * {@link VaadinSession#access(Command)}, which means that UIs using
+ * {@link com.vaadin.flow.shared.communication.PushMode#AUTOMATIC automatic
+ * push} receive the changes as soon as the update has run for all UIs of the
+ * session.
+ * <p>
+ * A UI is automatically unregistered when it is detached. If a session is
+ * closed before a pending update has been run for it, the update is not run
+ * and the returned future completes exceptionally.
+ * <p>
+ * The broadcaster adds a session destroy listener to the service of the
+ * registered UIs, which keeps the broadcaster referenced by the service. A
+ * broadcaster that is not used for the lifetime of the application should be
+ * closed using {@link #close()} when it is no longer needed.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class UIBroadcaster {
+
+    private final Executor executor;
+    private final Map<VaadinSession, Set<UI>> uisBySession = new ConcurrentHashMap<>();
+    private final Map<VaadinSession, Set<CompletableFuture<Void>>> pendingDeliveries = new ConcurrentHashMap<>();
+    private final Map<VaadinService, Registration> sessionDestroyRegistrations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new broadcaster that accesses sessions using the common
+     * fork-join pool.
+     */
+    public UIBroadcaster() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new broadcaster that accesses sessions using the given
+     * executor.
+     *
+     * @param executor
+     *            the executor to use for accessing sessions, not
+     *            <code>null</code>
+     */
+    public UIBroadcaster(Executor executor) {
+        this.executor = Objects.requireNonNull(executor,
+                "Executor cannot be null");
+    }
+
+    /**
+     * Registers a UI to receive broadcasted updates. The UI is unregistered
+     * when it is detached or when the returned registration is removed.
+     * <p>
+     * The session of the UI must be locked when calling this method.
+     *
+     * @param ui
+     *            the UI to register, not <code>null</code>
+     * @return a handle that can be used for unregistering the UI
+     * @throws UIDetachedException
+     *             if the UI is not attached to a session
+     */
+    public Registration register(UI ui) {
+        Objects.requireNonNull(ui, "UI cannot be null");
+        VaadinSession session = ui.getSession();
+        if (session == null) {
+            throw new UIDetachedException("Cannot register a detached UI");
+        }
+        VaadinService service = session.getService();
+        if (service != null) {
+            sessionDestroyRegistrations.computeIfAbsent(service,
+                    key -> key.addSessionDestroyListener(
+                            this::sessionDestroyed));
+        }
+
+        uisBySession
+                .computeIfAbsent(session,
+                        key -> ConcurrentHashMap.newKeySet())
+                .add(ui);
+        Registration detachRegistration = ui
+                .addDetachListener(event -> unregister(session, ui));
+
+        return () -> {
+            detachRegistration.remove();
+            unregister(session, ui);
+        };
+    }
+
+    private void unregister(VaadinSession session, UI ui) {
+        uisBySession.computeIfPresent(session, (key, uis) -> {
+            uis.remove(ui);
+            return uis.isEmpty() ? null : uis;
+        });
+    }
+
+    private void sessionDestroyed(SessionDestroyEvent event) {
+        VaadinSession session = event.getSession();
+        uisBySession.remove(session);
+        Set<CompletableFuture<Void>> pending = pendingDeliveries
+                .remove(session);
+        if (pending != null) {
+            pending.forEach(delivery -> delivery
+                    .completeExceptionally(sessionClosed(session)));
+        }
+    }
+
+    /**
+     * Unregisters all UIs and removes the listeners this broadcaster has added
+     * to services. Updates that are already being delivered are not affected.
+     * The broadcaster can still be used after closing it, but UIs must be
+     * registered again.
+     */
+    public void close() {
+        sessionDestroyRegistrations.keySet().forEach(service -> {
+            Registration registration = sessionDestroyRegistrations
+                    .remove(service);
+            if (registration != null) {
+                registration.remove();
+            }
+        });
+        // The detach listeners of the UIs do nothing for unregistered UIs
+        uisBySession.clear();
+    }
+
+    /**
+     * Gets the number of currently registered UIs.
+     *
+     * @return the number of registered UIs
+     */
+    public int getUICount() {
+        return uisBySession.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Runs the given update for every registered UI.
+     * <p>
+     * The update is run with the session of the UI locked and with the UI set
+     * as the current UI. All UIs of the same session are updated within the
+     * same session access, and different sessions are updated in parallel.
+     * <p>
+     * The returned future completes when the update has been run for all UIs.
+     * If the update throws for some UI, the remaining UIs of the session are
+     * still updated, the exception is passed to the error handler of the
+     * session and the returned future completes exceptionally.
+     *
+     * @param update
+     *            the update to run for each UI, not <code>null</code>
+     * @return a future that completes when all UIs have been updated
+     */
+    public CompletableFuture<Void> broadcast(SerializableConsumer<UI> update) {
+        Objects.requireNonNull(update, "Update cannot be null");
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        uisBySession.forEach((session, uis) -> deliveries
+                .add(deliver(session, new ArrayList<>(uis), update)));
+        return CompletableFuture
+                .allOf(deliveries.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Executes the given JavaScript expression in every registered UI.
+     * <p>
+     * The invocation is added separately to each UI, with the same parameters.
+     * Only parameter types that do not depend on a specific UI are supported,
+     * i.e. {@link String}, {@link Integer}, {@link Double}, {@link Boolean} and
+     * {@link elemental.json.JsonValue}, since elements and components belong to
+     * a single UI. The parameter values must not be modified after calling
+     * this method.
+     *
+     * @param expression
+     *            the JavaScript expression to invoke
+     * @param parameters
+     *            parameters to pass to the expression
+     * @return a future that completes when the invocation has been added to
+     *         all UIs
+     * @throws IllegalArgumentException
+     *             if a parameter type is not supported
+     * @see com.vaadin.flow.component.page.Page#executeJs(String,
+     *      Serializable...)
+     */
+    public CompletableFuture<Void> broadcastJs(String expression,
+            Serializable... parameters) {
+        Objects.requireNonNull(expression, "Expression cannot be null");
+        for (Serializable parameter : parameters) {
+            if (parameter != null && !JsonCodec
+                    .canEncodeWithoutTypeInfo(parameter.getClass())) {
+                throw new IllegalArgumentException(
+                        "Can't broadcast a parameter of type "
+                                + parameter.getClass().getName());
+            }
+        }
+        Serializable[] values = parameters.clone();
+
+        return broadcast(ui -> ui.getPage().executeJs(expression, values));
+    }
+
+    private CompletableFuture<Void> deliver(VaadinSession session,
+            List<UI> uis, SerializableConsumer<UI> update) {
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        pendingDeliveries.compute(session, (key, pending) -> {
+            Set<CompletableFuture<Void>> deliveries = pending != null ? pending
+                    : ConcurrentHashMap.newKeySet();
+            deliveries.add(delivery);
+            return deliveries;
+        });
+        delivery.whenComplete((result, error) -> pendingDeliveries
+                .computeIfPresent(session, (key, pending) -> {
+                    pending.remove(delivery);
+                    return pending.isEmpty() ? null : pending;
+                }));
+
+        // Checked after adding to pending deliveries so that a session closed
+        // concurrently is noticed either here or by the destroy listener
+        if (session.getState() != VaadinSessionState.OPEN) {
+            delivery.completeExceptionally(sessionClosed(session));
+            return delivery;
+        }
+
+        try {
+            executor.execute(() -> accessSession(session, uis, update,
+                    delivery));
+        } catch (RejectedExecutionException e) {
+            delivery.completeExceptionally(e);
+        }
+        return delivery;
+    }
+
+    private static void accessSession(VaadinSession session, List<UI> uis,
+            SerializableConsumer<UI> update,
+            CompletableFuture<Void> delivery) {
+        try {
+            session.access(() -> runUpdate(session, uis, update, delivery));
+        } catch (RuntimeException e) {
+            delivery.completeExceptionally(e);
+        }
+    }
+
+    private static void runUpdate(VaadinSession session, List<UI> uis,
+            SerializableConsumer<UI> update,
+            CompletableFuture<Void> delivery) {
+        RuntimeException failure = null;
+        for (UI ui : uis) {
+            if (ui.getSession() != session) {
+                // Detached after the broadcast was started
+                continue;
+            }
+            Map<Class<?>, CurrentInstance> oldCurrent = CurrentInstance
+                    .setCurrent(ui);
+            try {
+                update.accept(ui);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    getLogger().debug("Broadcast to UI {} failed",
+                            ui.getUIId(), e);
+                }
+            } finally {
+                CurrentInstance.restoreInstances(oldCurrent);
+            }
+        }
+        if (failure != null) {
+            delivery.completeExceptionally(failure);
+            throw failure;
+        }
+        delivery.complete(null);
+    }
+
+    private static IllegalStateException sessionClosed(
+            VaadinSession session) {
+        return new IllegalStateException(
+                "The session was closed before the update was delivered: "
+                        + session);
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(UIBroadcaster.class.getName());
+    }
+}
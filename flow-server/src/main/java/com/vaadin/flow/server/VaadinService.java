@@ -290,6 +290,9 @@ public abstract class VaadinService implements Serializable {
         if (getDeploymentConfiguration().isPnpmEnabled()) {
             UsageStatistics.markAsUsed("flow/pnpm",null);
         }
+        if (configuration.isMetadataWarmUpEnabled()) {
+            runWithServiceContext(() -> new MetadataWarmUp(this).run());
+        }
 
         initialized = true;
     }
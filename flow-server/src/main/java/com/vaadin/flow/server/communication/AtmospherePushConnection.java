@@ -21,18 +21,32 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.atmosphere.cpr.AtmosphereResource;
 import org.atmosphere.cpr.AtmosphereResource.TRANSPORT;
+import org.atmosphere.cpr.AtmosphereResourceEvent;
+import org.atmosphere.cpr.AtmosphereResourceEventListenerAdapter;
 import org.atmosphere.util.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.PushConfiguration;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.communication.PushConstants;
 
 import elemental.json.JsonObject;
@@ -46,11 +60,116 @@ import elemental.json.JsonObject;
  */
 public class AtmospherePushConnection implements PushConnection {
 
+    /**
+     * Delay in milliseconds before retrying a push that was held back because
+     * too many messages were pending and no coalescing window is configured.
+     */
+    private static final int BACKPRESSURE_RETRY_DELAY = 100;
+
     private UI ui;
     private transient State state = State.DISCONNECTED;
     private transient AtmosphereResource resource;
     private transient FragmentedMessage incomingMessage;
     private transient Future<Object> outgoingMessage;
+    private transient Deque<PendingMessage> pendingMessages;
+    private transient PushConnectionMetrics metrics;
+    private transient DeliveryTracker deliveryTracker;
+    private transient ScheduledFuture<?> scheduledFlush;
+    private transient long lastPushTime;
+
+    private volatile long sentPushCount;
+    private volatile long coalescedPushCount;
+    private volatile long heldBackPushCount;
+
+    /**
+     * A message handed to the broadcaster that has not yet been seen as
+     * written to the client.
+     */
+    private static class PendingMessage {
+        private final Future<Object> future;
+        private final int length;
+
+        private PendingMessage(Future<Object> future, int length) {
+            this.future = future;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Records the send latency of messages when the broadcaster reports that
+     * they have been written to the resource. The broadcaster writes the
+     * messages of a resource in order, so each written message is matched
+     * with the oldest message sent but not yet written.
+     * <p>
+     * The listener is notified on a broadcaster thread, which is why it does
+     * not touch any state protected by the session lock.
+     */
+    private static class DeliveryTracker
+            extends AtmosphereResourceEventListenerAdapter {
+        private final PushConnectionMetrics metrics;
+        private final ConcurrentLinkedDeque<Long> sendTimes = new ConcurrentLinkedDeque<>();
+
+        private DeliveryTracker(PushConnectionMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        private Long messageSent() {
+            Long sentAt = Long.valueOf(System.currentTimeMillis());
+            sendTimes.add(sentAt);
+            return sentAt;
+        }
+
+        private void messageNotSent(Long sentAt) {
+            sendTimes.removeLastOccurrence(sentAt);
+        }
+
+        @Override
+        public void onBroadcast(AtmosphereResourceEvent event) {
+            Long sentAt = sendTimes.poll();
+            if (sentAt != null) {
+                metrics.messageDelivered(
+                        System.currentTimeMillis() - sentAt.longValue());
+            }
+        }
+    }
+
+    /**
+     * Timers used for sending trailing pushes of coalesced changes. A timer is
+     * created for a service when it is first needed and shut down when the
+     * service is destroyed, so that its thread does not outlive the
+     * application.
+     */
+    private static class FlushScheduler {
+        private static final Map<VaadinService, ScheduledThreadPoolExecutor> EXECUTORS = Collections
+                .synchronizedMap(new WeakHashMap<>());
+
+        private static ScheduledThreadPoolExecutor get(VaadinService service) {
+            synchronized (EXECUTORS) {
+                return EXECUTORS.computeIfAbsent(service, key -> {
+                    service.addServiceDestroyListener(event -> {
+                        ScheduledThreadPoolExecutor executor = EXECUTORS
+                                .remove(service);
+                        if (executor != null) {
+                            executor.shutdownNow();
+                        }
+                    });
+                    return createExecutor();
+                });
+            }
+        }
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                    1, runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "Vaadin push flush");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 
     /**
      * Represents a message that can arrive as multiple fragments.
@@ -190,6 +309,17 @@ public class AtmospherePushConnection implements PushConnection {
                 state = State.RESPONSE_PENDING;
             }
         } else {
+            long now = System.currentTimeMillis();
+            // Closing the UI must not wait for the coalescing window since the
+            // connection may be gone by then
+            long delay = async && !getUI().isClosing() ? getPushDelay(now)
+                    : 0;
+            if (delay > 0) {
+                // The changes stay in the UI and are sent by the trailing push
+                scheduleFlush(delay);
+                return;
+            }
+            cancelScheduledFlush();
             try {
                 JsonObject response = new UidlWriter().createUidl(getUI(),
                         async);
@@ -197,9 +327,153 @@ public class AtmospherePushConnection implements PushConnection {
             } catch (Exception e) {
                 throw new RuntimeException("Push failed", e);
             }
+            lastPushTime = now;
+            sentPushCount++;
+        }
+    }
+
+    /**
+     * Gets the time to wait before an asynchronous push may be sent, based on
+     * the push coalescing window and the maximum number of pending messages
+     * configured for the UI. Updates the coalescing statistics if the push
+     * needs to be delayed.
+     *
+     * @param now
+     *            the current time in milliseconds
+     * @return the delay in milliseconds, or <code>0</code> if the push can be
+     *         sent right away
+     */
+    long getPushDelay(long now) {
+        PushConfiguration configuration = getUI().getPushConfiguration();
+        int window = configuration.getPushCoalescingWindow();
+        if (window > 0 && now - lastPushTime < window) {
+            coalescedPushCount++;
+            return lastPushTime + window - now;
+        }
+        int maxPending = configuration.getMaxPendingPushMessages();
+        if (maxPending > 0 && getPendingMessageCount() >= maxPending) {
+            heldBackPushCount++;
+            return window > 0 ? window : BACKPRESSURE_RETRY_DELAY;
+        }
+        return 0;
+    }
+
+    private void scheduleFlush(long delay) {
+        if (scheduledFlush != null) {
+            // A trailing push is already coming
+            return;
+        }
+        UI targetUI = getUI();
+        VaadinSession session = targetUI.getSession();
+        if (session == null) {
+            // Nothing to push to once the UI has been detached
+            return;
+        }
+        ScheduledThreadPoolExecutor executor = FlushScheduler
+                .get(session.getService());
+        scheduledFlush = executor.schedule(() -> {
+            try {
+                targetUI.access(this::flushCoalescedPush);
+            } catch (UIDetachedException e) {
+                getLogger().debug(
+                        "UI was detached before coalesced changes were pushed",
+                        e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushCoalescedPush() {
+        scheduledFlush = null;
+        UI targetUI = getUI();
+        if (targetUI.getPushConfiguration().getPushMode().isEnabled()) {
+            targetUI.push();
+        }
+    }
+
+    /**
+     * Checks whether a trailing push of coalesced or held back changes has
+     * been scheduled.
+     *
+     * @return <code>true</code> if a push is scheduled
+     */
+    boolean isFlushScheduled() {
+        return scheduledFlush != null;
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
         }
     }
 
+    /**
+     * Gets the number of messages that have been handed to the broadcaster but
+     * not yet written to the client.
+     *
+     * @return the number of pending messages
+     */
+    public int getPendingMessageCount() {
+        purgeDeliveredMessages();
+        return pendingMessages == null ? 0 : pendingMessages.size();
+    }
+
+    /**
+     * Gets the total size of the messages that have been handed to the
+     * broadcaster but not yet written to the client. The size of a message is
+     * measured in characters.
+     *
+     * @return the size of pending messages
+     */
+    public long getPendingChars() {
+        purgeDeliveredMessages();
+        if (pendingMessages == null) {
+            return 0;
+        }
+        return pendingMessages.stream()
+                .mapToLong(pendingMessage -> pendingMessage.length).sum();
+    }
+
+    private void purgeDeliveredMessages() {
+        if (pendingMessages == null) {
+            return;
+        }
+        pendingMessages
+                .removeIf(pendingMessage -> pendingMessage.future.isDone());
+    }
+
+    /**
+     * Gets the number of pushes that have been sent to the client through this
+     * connection.
+     *
+     * @return the number of sent pushes
+     */
+    public long getSentPushCount() {
+        return sentPushCount;
+    }
+
+    /**
+     * Gets the number of asynchronous pushes that were merged into a later push
+     * because they were requested within the push coalescing window.
+     *
+     * @return the number of coalesced pushes
+     * @see PushConfiguration#setPushCoalescingWindow(int)
+     */
+    public long getCoalescedPushCount() {
+        return coalescedPushCount;
+    }
+
+    /**
+     * Gets the number of asynchronous pushes that were held back because the
+     * maximum number of pending messages was reached.
+     *
+     * @return the number of held back pushes
+     * @see PushConfiguration#setMaxPendingPushMessages(int)
+     */
+    public long getHeldBackPushCount() {
+        return heldBackPushCount;
+    }
+
     /**
      * Sends the given message to the current client. Cannot be called if
      * {@link #isConnected()} returns false.
@@ -209,9 +483,72 @@ public class AtmospherePushConnection implements PushConnection {
      */
     protected void sendMessage(String message) {
         assert (isConnected());
+        // Registered before broadcasting since the message may be written
+        // before broadcast returns
+        Long sentAt = deliveryTracker == null ? null
+                : deliveryTracker.messageSent();
         // "Broadcast" the changes to the single client only
         outgoingMessage = getResource().getBroadcaster().broadcast(message,
                 getResource());
+        if (metrics != null) {
+            metrics.messageSent(message.length());
+        }
+        if (outgoingMessage == null && sentAt != null) {
+            deliveryTracker.messageNotSent(sentAt);
+        }
+        if (outgoingMessage != null) {
+            purgeDeliveredMessages();
+            if (pendingMessages == null) {
+                pendingMessages = new ArrayDeque<>();
+            }
+            pendingMessages.add(new PendingMessage(outgoingMessage,
+                    message.length()));
+
+            int maxPendingChars = getMaxPendingChars();
+            if (maxPendingChars > 0 && getPendingChars() > maxPendingChars) {
+                evictSlowConsumer();
+            }
+        }
+    }
+
+    private int getMaxPendingChars() {
+        VaadinSession session = getUI().getSession();
+        if (session == null || session.getConfiguration() == null) {
+            return 0;
+        }
+        return session.getConfiguration().getPushMaxPendingChars();
+    }
+
+    /**
+     * Closes the connection to a client that does not keep up with the pushed
+     * messages. The messages waiting to be written are discarded, and the
+     * client resynchronizes its state once it has reconnected and noticed the
+     * missing messages.
+     */
+    private void evictSlowConsumer() {
+        getLogger().info(
+                "Closing push connection for UI {} since {} characters are waiting to be written to the client",
+                getUI().getUIId(), getPendingChars());
+        if (metrics != null) {
+            metrics.connectionEvicted();
+        }
+        AtmosphereResource evictedResource = resource;
+        outgoingMessage = null;
+        try {
+            evictedResource.close();
+        } catch (IOException e) {
+            getLogger().info("Error when closing push connection", e);
+        }
+        connectionLost();
+    }
+
+    private PushConnectionMetrics findMetrics() {
+        VaadinSession session = getUI().getSession();
+        if (session == null || session.getService() == null) {
+            return null;
+        }
+        return PushConnectionMetrics
+                .getInstance(session.getService().getContext());
     }
 
     /**
@@ -279,6 +616,12 @@ public class AtmospherePushConnection implements PushConnection {
         this.resource = resource;
         State oldState = state;
         state = State.CONNECTED;
+        metrics = findMetrics();
+        if (metrics != null) {
+            metrics.connectionOpened();
+            deliveryTracker = new DeliveryTracker(metrics);
+            resource.addEventListener(deliveryTracker);
+        }
 
         if (oldState == State.PUSH_PENDING
                 || oldState == State.RESPONSE_PENDING) {
@@ -307,6 +650,8 @@ public class AtmospherePushConnection implements PushConnection {
     public void disconnect() {
         assert isConnected();
 
+        cancelScheduledFlush();
+
         if (resource == null) {
             // Already disconnected. Should not happen but if it does, we don't
             // want to cause NPEs
@@ -352,12 +697,21 @@ public class AtmospherePushConnection implements PushConnection {
      *
      */
     public void connectionLost() {
+        if (resource != null && deliveryTracker != null) {
+            resource.removeEventListener(deliveryTracker);
+        }
+        deliveryTracker = null;
         resource = null;
+        pendingMessages = null;
         if (state == State.CONNECTED) {
             // Guard against connectionLost being (incorrectly) called when
             // state is PUSH_PENDING or RESPONSE_PENDING
             // (http://dev.vaadin.com/ticket/16919)
             state = State.DISCONNECTED;
+            if (metrics != null) {
+                metrics.connectionClosed();
+                metrics = null;
+            }
         }
 
     }
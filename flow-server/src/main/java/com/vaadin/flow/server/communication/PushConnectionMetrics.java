@@ -0,0 +1,162 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vaadin.flow.server.VaadinContext;
+
+/**
+ * Collects health metrics of all push connections of an application: the
+ * number of open connections, the number of sent messages and characters, a
+ * histogram of send latencies and the number of connections evicted because
+ * the client could not keep up.
+ * <p>
+ * The send latency of a message is the time from handing the message to the
+ * broadcaster until the broadcaster reports that the message has been written
+ * to the push connection.
+ * <p>
+ * Per-UI values such as the number of pending characters are available from
+ * {@link AtmospherePushConnection}.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class PushConnectionMetrics implements Serializable {
+
+    private static final long[] LATENCY_BUCKET_BOUNDS = { 1, 5, 10, 50, 100,
+            500, 1000, 5000 };
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder sentChars = new LongAdder();
+    private final LongAdder evictedConnections = new LongAdder();
+    private final LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKET_BOUNDS.length
+            + 1];
+
+    /**
+     * Creates a new, empty metrics instance.
+     */
+    public PushConnectionMetrics() {
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            latencyHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets the metrics instance shared by all push connections of the given
+     * context, creating it if necessary.
+     *
+     * @param context
+     *            the context to get the metrics for, not <code>null</code>
+     * @return the metrics instance, not <code>null</code>
+     */
+    public static PushConnectionMetrics getInstance(VaadinContext context) {
+        assert context != null;
+        return context.getAttribute(PushConnectionMetrics.class,
+                PushConnectionMetrics::new);
+    }
+
+    void connectionOpened() {
+        activeConnections.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        activeConnections.decrementAndGet();
+    }
+
+    void messageSent(int chars) {
+        sentMessages.increment();
+        sentChars.add(chars);
+    }
+
+    void messageDelivered(long latency) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS.length
+                && latency > LATENCY_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        latencyHistogram[bucket].increment();
+    }
+
+    void connectionEvicted() {
+        evictedConnections.increment();
+    }
+
+    /**
+     * Gets the number of currently open push connections.
+     *
+     * @return the number of open connections
+     */
+    public int getActiveConnectionCount() {
+        return activeConnections.get();
+    }
+
+    /**
+     * Gets the total number of messages sent through push connections.
+     *
+     * @return the number of sent messages
+     */
+    public long getSentMessageCount() {
+        return sentMessages.sum();
+    }
+
+    /**
+     * Gets the total number of characters sent through push connections.
+     *
+     * @return the number of sent characters
+     */
+    public long getSentChars() {
+        return sentChars.sum();
+    }
+
+    /**
+     * Gets the number of connections that have been closed because too much
+     * data was waiting to be written to the client.
+     *
+     * @return the number of evicted connections
+     * @see com.vaadin.flow.function.DeploymentConfiguration#getPushMaxPendingChars()
+     */
+    public long getEvictedConnectionCount() {
+        return evictedConnections.sum();
+    }
+
+    /**
+     * Gets the upper bounds, in milliseconds, of the send latency histogram
+     * buckets. The histogram has one more bucket than there are bounds, for
+     * latencies above the last bound.
+     *
+     * @return the bucket upper bounds in milliseconds
+     */
+    public static long[] getSendLatencyBucketBounds() {
+        return Arrays.copyOf(LATENCY_BUCKET_BOUNDS,
+                LATENCY_BUCKET_BOUNDS.length);
+    }
+
+    /**
+     * Gets the number of delivered messages in each send latency bucket.
+     *
+     * @return the message counts per bucket
+     * @see #getSendLatencyBucketBounds()
+     */
+    public long[] getSendLatencyHistogram() {
+        return Arrays.stream(latencyHistogram).mapToLong(LongAdder::sum)
+                .toArray();
+    }
+}
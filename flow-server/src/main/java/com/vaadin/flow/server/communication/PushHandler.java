@@ -537,4 +537,14 @@ public class PushHandler {
     public int getLongPollingSuspendTimeout() {
         return longPollingSuspendTimeout;
     }
+
+    /**
+     * Gets the health metrics of the push connections handled by this
+     * handler's service.
+     *
+     * @return the push connection metrics, not <code>null</code>
+     */
+    public PushConnectionMetrics getMetrics() {
+        return PushConnectionMetrics.getInstance(service.getContext());
+    }
 }
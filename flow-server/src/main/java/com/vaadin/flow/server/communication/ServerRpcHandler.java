@@ -34,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.VaadinRequest;
@@ -257,16 +258,22 @@ public class ServerRpcHandler implements Serializable {
             throw new InvalidUIDLSecurityKeyException();
         }
 
-        String hashMessage = changeMessage;
-        if (hashMessage.length() > 64 * 1024) {
-            hashMessage = changeMessage.substring(0, 64 * 1024);
-        }
-        byte[] messageHash = MessageDigestUtil.sha256(hashMessage);
+        byte[] messageHash = getMessageHash(changeMessage);
 
         int expectedId = ui.getInternals().getLastProcessedClientToServerId()
                 + 1;
         int requestId = rpcRequest.getClientToServerId();
 
+        if (requestId > expectedId && !rpcRequest.isResynchronize()
+                && isPipelined(ui, requestId, expectedId)) {
+            // A pipelined message has overtaken the messages preceding it. It
+            // is processed once they have been processed, and the response to
+            // this request only contains the changes made so far.
+            ui.getInternals().addPendingClientToServerMessage(requestId,
+                    changeMessage);
+            return;
+        }
+
         if (requestId != -1 && requestId != expectedId) {
             // Invalid message id, skip RPC processing but force a full
             // re-synchronization of the client as it might have not received
@@ -304,6 +311,7 @@ public class ServerRpcHandler implements Serializable {
                 if (messageStart.length() > 1000) {
                     messageStart = messageStart.substring(0, 1000);
                 }
+                ui.getInternals().clearPendingClientToServerMessages();
                 throw new UnsupportedOperationException(
                         "Unexpected message id from the client."
                                 + " Expected sync id: " + expectedId + ", got "
@@ -315,6 +323,7 @@ public class ServerRpcHandler implements Serializable {
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
             handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            handlePendingMessages(ui, request);
         }
 
         if (rpcRequest.isResynchronize()) {
@@ -328,6 +337,7 @@ public class ServerRpcHandler implements Serializable {
             // state tree, in order to send changes for a full re-build of
             // the client-side state tree in the response
             ui.getInternals().getStateTree().prepareForResync();
+            ui.getInternals().clearPendingClientToServerMessages();
 
             // At this point, make no assumptions about which dependencies have
             // been accepted by the client
@@ -339,6 +349,45 @@ public class ServerRpcHandler implements Serializable {
         }
     }
 
+    private static byte[] getMessageHash(String message) {
+        String hashMessage = message;
+        if (hashMessage.length() > 64 * 1024) {
+            hashMessage = message.substring(0, 64 * 1024);
+        }
+        return MessageDigestUtil.sha256(hashMessage);
+    }
+
+    /**
+     * Checks whether a message that is ahead of the expected one is within the
+     * number of requests the client is allowed to pipeline.
+     */
+    private static boolean isPipelined(UI ui, int requestId, int expectedId) {
+        int maxPipelinedRequests = ui.getSession().getService()
+                .getDeploymentConfiguration().getMaxPipelinedRequests();
+        return maxPipelinedRequests > 1
+                && requestId - expectedId < maxPipelinedRequests;
+    }
+
+    /**
+     * Processes the stored pipelined messages that directly follow the last
+     * processed message.
+     */
+    private void handlePendingMessages(UI ui, VaadinRequest request) {
+        UIInternals internals = ui.getInternals();
+        String message = internals.removePendingClientToServerMessage(
+                internals.getLastProcessedClientToServerId() + 1);
+        while (message != null) {
+            RpcRequest pendingRequest = new RpcRequest(message, request);
+            internals.setLastProcessedClientToServerId(
+                    pendingRequest.getClientToServerId(),
+                    getMessageHash(message));
+            handleInvocations(ui, pendingRequest.getRpcInvocationsData());
+
+            message = internals.removePendingClientToServerMessage(
+                    internals.getLastProcessedClientToServerId() + 1);
+        }
+    }
+
     /**
      * Gets {@link RpcInvocationHandler}s map where the key is the type of the
      * handler gotten via {@link RpcInvocationHandler#getRpcType()}.
@@ -27,6 +27,8 @@ import java.io.PrintWriter;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileItemStream;
@@ -64,7 +66,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  */
 public class StreamReceiverHandler implements Serializable {
 
-    private static final int MAX_UPLOAD_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_UPLOAD_BUFFER_SIZE = 64 * 1024;
+
+    /* Maximum number of idle upload buffers kept for reuse. */
+    private static final int MAX_POOLED_UPLOAD_BUFFERS = 16;
+
+    private static final Queue<byte[]> UPLOAD_BUFFER_POOL = new ArrayBlockingQueue<>(
+            MAX_POOLED_UPLOAD_BUFFERS);
 
     /* Minimum interval which will be used for streaming progress events. */
     public static final int DEFAULT_STREAMING_PROGRESS_EVENT_INTERVAL_MS = 500;
@@ -233,7 +241,7 @@ public class StreamReceiverHandler implements Serializable {
             VaadinRequest request, StreamReceiver streamReceiver,
             StateNode owner) throws IOException {
         boolean success = true;
-        long contentLength = request.getContentLength();
+        long contentLength = getContentLength(request);
         // Parse the request
         FileItemIterator iter;
         try {
@@ -437,6 +445,7 @@ public class StreamReceiverHandler implements Serializable {
         }
 
         OutputStream out = null;
+        byte[] buffer = null;
         long totalBytes = 0;
         StreamingStartEventImpl startedEvent = new StreamingStartEventImpl(
                 filename, type, contentLength);
@@ -462,7 +471,7 @@ public class StreamReceiverHandler implements Serializable {
                 throw new NoInputStreamException();
             }
 
-            final byte[] buffer = new byte[MAX_UPLOAD_BUFFER_SIZE];
+            buffer = acquireUploadBuffer();
             long lastStreamingEvent = 0;
             int bytesReadToBuffer;
             do {
@@ -521,11 +530,33 @@ public class StreamReceiverHandler implements Serializable {
             } finally {
                 session.unlock();
             }
+        } finally {
+            releaseUploadBuffer(buffer);
         }
         return new Pair<>(startedEvent.isDisposed(),
                 success ? UploadStatus.OK : UploadStatus.ERROR);
     }
 
+    /**
+     * Gets a buffer for copying upload data, reusing a previously released
+     * buffer when one is available so that concurrent uploads do not allocate
+     * a new buffer each.
+     */
+    private static byte[] acquireUploadBuffer() {
+        byte[] buffer = UPLOAD_BUFFER_POOL.poll();
+        if (buffer == null) {
+            buffer = new byte[MAX_UPLOAD_BUFFER_SIZE];
+        }
+        return buffer;
+    }
+
+    private static void releaseUploadBuffer(byte[] buffer) {
+        if (buffer != null) {
+            // Dropped if the pool is already full
+            UPLOAD_BUFFER_POOL.offer(buffer);
+        }
+    }
+
     private long updateProgress(VaadinSession session,
             StreamVariable streamVariable,
             StreamingProgressEventImpl progressEvent, long lastStreamingEvent,
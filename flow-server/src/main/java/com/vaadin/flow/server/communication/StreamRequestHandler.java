@@ -68,6 +68,18 @@ public class StreamRequestHandler implements RequestHandler {
         this.receiverHandler = receiverHandler;
     }
 
+    /**
+     * Gets the handler that writes the stream resources served by this
+     * handler. The returned handler can be used for monitoring the downloads,
+     * e.g. the number of active downloads and the download throughput.
+     *
+     * @return the stream resource handler, not <code>null</code>
+     * @see com.vaadin.flow.server.VaadinService#getRequestHandlers()
+     */
+    public StreamResourceHandler getStreamResourceHandler() {
+        return resourceHandler;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -18,10 +18,17 @@ package com.vaadin.flow.server.communication;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletResponse;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.StreamResourceWriter;
 import com.vaadin.flow.server.VaadinRequest;
@@ -38,6 +45,45 @@ import com.vaadin.flow.server.VaadinSession;
  */
 public class StreamResourceHandler implements Serializable {
 
+    private final AtomicInteger activeDownloads = new AtomicInteger();
+    private final LongAdder completedDownloads = new LongAdder();
+    private final LongAdder rejectedDownloads = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder writeTime = new LongAdder();
+
+    /**
+     * Number of downloads in progress for a session, stored as a session
+     * attribute.
+     */
+    private static final class SessionDownloads implements Serializable {
+        private final AtomicInteger active = new AtomicInteger();
+    }
+
+    /**
+     * Counts the bytes written through the stream without changing how they
+     * are written.
+     */
+    private static final class CountingOutputStream
+            extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
     /**
      * Handle sending for a stream resource request.
      *
@@ -58,6 +104,7 @@ public class StreamResourceHandler implements Serializable {
             throws IOException {
 
         StreamResourceWriter writer;
+        SessionDownloads sessionDownloads;
         session.lock();
         try {
             ServletContext context = ((VaadinServletRequest) request)
@@ -70,6 +117,7 @@ public class StreamResourceHandler implements Serializable {
                 throw new IOException(
                         "Stream resource produces null input stream");
             }
+            sessionDownloads = startSessionDownload(session);
         } catch (Exception exception) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             throw exception;
@@ -77,12 +125,121 @@ public class StreamResourceHandler implements Serializable {
         } finally {
             session.unlock();
         }
-        try (OutputStream outputStream = response.getOutputStream()) {
-            writer.accept(outputStream, session);
+        if (sessionDownloads == null) {
+            rejectedDownloads.increment();
+            getLogger().debug(
+                    "Rejected download of '{}' since the session already has the maximum number of downloads in progress",
+                    streamResource.getName());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        activeDownloads.incrementAndGet();
+        long start = System.nanoTime();
+        CountingOutputStream outputStream = null;
+        try (CountingOutputStream counting = new CountingOutputStream(
+                response.getOutputStream())) {
+            outputStream = counting;
+            writer.accept(counting, session);
         } catch (Exception exception) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             throw exception;
+        } finally {
+            sessionDownloads.active.decrementAndGet();
+            activeDownloads.decrementAndGet();
+            long duration = System.nanoTime() - start;
+            long written = outputStream == null ? 0 : outputStream.count;
+            completedDownloads.increment();
+            bytesWritten.add(written);
+            writeTime.add(duration);
+            getLogger().debug("Wrote {} bytes of '{}' in {} ms", written,
+                    streamResource.getName(), duration / 1000000);
+        }
+    }
+
+    /**
+     * Registers a new download for the session, unless the session already
+     * has the configured maximum number of downloads in progress.
+     *
+     * @return the download counter of the session, or <code>null</code> if the
+     *         download is not allowed
+     */
+    private static SessionDownloads startSessionDownload(
+            VaadinSession session) {
+        SessionDownloads downloads = session
+                .getAttribute(SessionDownloads.class);
+        if (downloads == null) {
+            downloads = new SessionDownloads();
+            session.setAttribute(SessionDownloads.class, downloads);
+        }
+        DeploymentConfiguration configuration = session.getConfiguration();
+        int max = configuration == null ? 0
+                : configuration.getMaxConcurrentDownloadsPerSession();
+        if (max > 0 && downloads.active.get() >= max) {
+            return null;
+        }
+        downloads.active.incrementAndGet();
+        return downloads;
+    }
+
+    /**
+     * Gets the number of stream resource downloads currently being written by
+     * this handler.
+     *
+     * @return the number of active downloads
+     */
+    public int getActiveDownloadCount() {
+        return activeDownloads.get();
+    }
+
+    /**
+     * Gets the number of stream resource downloads that have been written,
+     * successfully or not, by this handler.
+     *
+     * @return the number of finished downloads
+     */
+    public long getCompletedDownloadCount() {
+        return completedDownloads.sum();
+    }
+
+    /**
+     * Gets the number of downloads rejected because the session already had
+     * the maximum number of downloads in progress.
+     *
+     * @return the number of rejected downloads
+     * @see DeploymentConfiguration#getMaxConcurrentDownloadsPerSession()
+     */
+    public long getRejectedDownloadCount() {
+        return rejectedDownloads.sum();
+    }
+
+    /**
+     * Gets the total number of bytes written for finished downloads.
+     *
+     * @return the number of written bytes
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Gets the average throughput of finished downloads, in bytes per second.
+     *
+     * @return the average download throughput, or <code>0</code> if nothing
+     *         has been written yet
+     */
+    public long getThroughput() {
+        long nanos = writeTime.sum();
+        if (nanos == 0) {
+            return 0;
         }
+        // Dividing first since the byte count multiplied by the number of
+        // nanoseconds in a second easily overflows a long
+        return (long) (bytesWritten.sum() / (nanos / 1e9));
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(StreamResourceHandler.class.getName());
     }
 
 }
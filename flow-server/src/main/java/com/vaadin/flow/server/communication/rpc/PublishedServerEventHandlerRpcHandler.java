@@ -16,14 +16,17 @@
 package com.vaadin.flow.server.communication.rpc;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,6 +39,7 @@ import com.vaadin.flow.component.polymertemplate.EventHandler;
 import com.vaadin.flow.component.polymertemplate.PolymerTemplate;
 import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.ClientCallableHandlers;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
@@ -64,6 +68,52 @@ public class PublishedServerEventHandlerRpcHandler
 
     private static final Collection<RpcDecoder> DECODERS = loadDecoders();
 
+    /**
+     * Event handler and client callable methods by name, cached per class.
+     * Only methods that have been found are cached since the method names come
+     * from the client.
+     */
+    private static final ReflectionCache<Component, Map<String, MethodInvoker>> INVOKERS = new ReflectionCache<>(
+            type -> new ConcurrentHashMap<>());
+
+    /**
+     * A resolved event handler method together with a method handle for
+     * invoking it and its parameter types, computed once per method.
+     */
+    private static final class MethodInvoker {
+        private final Method method;
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final Type[] genericParameterTypes;
+
+        private MethodInvoker(Method method) {
+            this.method = method;
+            parameterTypes = method.getParameterTypes();
+            genericParameterTypes = method.getGenericParameterTypes();
+            method.setAccessible(true);
+            try {
+                MethodHandle methodHandle = MethodHandles.lookup()
+                        .unreflect(method).asFixedArity();
+                // (Object, Object[]) -> Object
+                handle = methodHandle.asType(methodHandle.type().generic())
+                        .asSpreader(Object[].class, parameterTypes.length);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Object invoke(Component instance, Object[] args) {
+            try {
+                return handle.invokeExact((Object) instance, args);
+            } catch (Throwable throwable) { // NOSONAR
+                LoggerFactory.getLogger(
+                        PublishedServerEventHandlerRpcHandler.class.getName())
+                        .debug(null, throwable);
+                throw new RuntimeException(throwable);
+            }
+        }
+    }
+
     @Override
     public String getRpcType() {
         return JsonConstants.RPC_PUBLISHED_SERVER_EVENT_HANDLER;
@@ -132,7 +182,8 @@ public class PublishedServerEventHandlerRpcHandler
     static void invokeMethod(Component instance, Class<?> clazz,
             String methodName, JsonArray args, int promiseId) {
         assert instance != null;
-        Optional<Method> method = findMethod(instance, clazz, methodName);
+        Optional<MethodInvoker> method = getInvoker(instance, clazz,
+                methodName);
         if (method.isPresent()) {
             invokeMethod(instance, method.get(), args, promiseId);
         } else if (instance instanceof Composite) {
@@ -147,6 +198,21 @@ public class PublishedServerEventHandlerRpcHandler
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Optional<MethodInvoker> getInvoker(Component instance,
+            Class<?> clazz, String methodName) {
+        Map<String, MethodInvoker> invokers = INVOKERS
+                .get((Class<? extends Component>) clazz);
+        MethodInvoker invoker = invokers.get(methodName);
+        if (invoker != null) {
+            return Optional.of(invoker);
+        }
+        Optional<MethodInvoker> found = findMethod(instance, clazz, methodName)
+                .map(MethodInvoker::new);
+        found.ifPresent(value -> invokers.putIfAbsent(methodName, value));
+        return found;
+    }
+
     private static Optional<Method> findMethod(Component instance,
             Class<?> clazz, String methodName) {
         List<Method> methods = Stream.of(clazz.getDeclaredMethods())
@@ -168,7 +234,7 @@ public class PublishedServerEventHandlerRpcHandler
         }
     }
 
-    private static void invokeMethod(Component instance, Method method,
+    private static void invokeMethod(Component instance, MethodInvoker method,
             JsonArray args, int promiseId) {
         if (promiseId == -1) {
             invokeMethod(instance, method, args);
@@ -193,24 +259,15 @@ public class PublishedServerEventHandlerRpcHandler
         }
     }
 
-    private static Object invokeMethod(Component instance, Method method,
-            JsonArray args) {
-        try {
-            method.setAccessible(true);
-            return method.invoke(instance, decodeArgs(instance, method, args));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            LoggerFactory.getLogger(
-                    PublishedServerEventHandlerRpcHandler.class.getName())
-                    .debug(null, e);
-            throw new RuntimeException(e.getCause());
-        }
+    private static Object invokeMethod(Component instance,
+            MethodInvoker invoker, JsonArray args) {
+        return invoker.invoke(instance, decodeArgs(instance, invoker, args));
     }
 
-    private static Object[] decodeArgs(Component instance, Method method,
-            JsonArray argsFromClient) {
-        int methodArgs = method.getParameterCount();
+    private static Object[] decodeArgs(Component instance,
+            MethodInvoker invoker, JsonArray argsFromClient) {
+        Method method = invoker.method;
+        int methodArgs = invoker.parameterTypes.length;
         int clientValuesCount = argsFromClient.length();
         JsonArray argValues;
         if (method.isVarArgs()) {
@@ -239,13 +296,12 @@ public class PublishedServerEventHandlerRpcHandler
                 throw new IllegalArgumentException(msg);
             }
         }
-        List<Object> decoded = new ArrayList<>(method.getParameterCount());
-        Class<?>[] methodParameterTypes = method.getParameterTypes();
+        Object[] decoded = new Object[methodArgs];
         for (int i = 0; i < argValues.length(); i++) {
-            Class<?> type = methodParameterTypes[i];
-            decoded.add(decodeArg(instance, method, type, i, argValues.get(i)));
+            decoded[i] = decodeArg(instance, invoker, invoker.parameterTypes[i],
+                    i, argValues.get(i));
         }
-        return decoded.toArray(new Object[method.getParameterCount()]);
+        return decoded;
     }
 
     private static JsonArray unwrapVarArgs(JsonArray argsFromClient,
@@ -273,11 +329,12 @@ public class PublishedServerEventHandlerRpcHandler
         return result;
     }
 
-    private static Object decodeArg(Component instance, Method method,
+    private static Object decodeArg(Component instance, MethodInvoker invoker,
             Class<?> type, int index, JsonValue argValue) {
         // come up with method to know that it's an id and should be gotten from
         // the model
         assert argValue != null;
+        Method method = invoker.method;
         if (type.isPrimitive() && argValue.getType() == JsonType.NULL) {
             String msg = String.format(
                     "Null values are not allowed for primitive types but "
@@ -288,14 +345,14 @@ public class PublishedServerEventHandlerRpcHandler
                     method.getDeclaringClass().getName());
             throw new IllegalArgumentException(msg);
         } else if (type.isArray()) {
-            return decodeArray(method, type, index, argValue);
+            return decodeArray(invoker, type, index, argValue);
         } else {
             Class<?> convertedType = ReflectTools.convertPrimitiveType(type);
 
             if (isTemplateModelValue(instance, argValue, convertedType)) {
                 return getTemplateItem((PolymerTemplate<?>) instance,
                         (JsonObject) argValue,
-                        method.getGenericParameterTypes()[index]);
+                        invoker.genericParameterTypes[index]);
             }
 
             Optional<RpcDecoder> decoder = getDecoder(argValue, convertedType);
@@ -341,8 +398,9 @@ public class PublishedServerEventHandlerRpcHandler
         return propertyType.modelToApplication(node);
     }
 
-    private static Object decodeArray(Method method, Class<?> type, int index,
-            JsonValue argValue) {
+    private static Object decodeArray(MethodInvoker invoker, Class<?> type,
+            int index, JsonValue argValue) {
+        Method method = invoker.method;
         if (argValue.getType() != JsonType.ARRAY) {
             String msg = String.format(
                     "Class '%s' has the method '%s' "
@@ -356,7 +414,7 @@ public class PublishedServerEventHandlerRpcHandler
         JsonArray array = (JsonArray) argValue;
         Object result = Array.newInstance(componentType, array.length());
         for (int i = 0; i < array.length(); i++) {
-            Array.set(result, i, decodeArg(null, method, componentType, index,
+            Array.set(result, i, decodeArg(null, invoker, componentType, index,
                     array.get(i)));
         }
         return result;
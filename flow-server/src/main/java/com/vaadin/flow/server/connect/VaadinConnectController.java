@@ -23,8 +23,12 @@ import javax.validation.Validation;
 import javax.validation.Validator;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -38,6 +42,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +51,7 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +117,7 @@ public class VaadinConnectController {
     private final Validator validator = Validation
             .buildDefaultValidatorFactory().getValidator();
     private final ExplicitNullableTypeChecker explicitNullableTypeChecker;
+    private final Map<Method, EndpointMethodInvoker> invokers = new ConcurrentHashMap<>();
 
     /**
      * A constructor used to initialize the controller.
@@ -311,8 +318,11 @@ public class VaadinConnectController {
                             endpointName, methodName, checkError)));
         }
 
+        EndpointMethodInvoker invoker = invokers.computeIfAbsent(
+                methodToInvoke, method -> new EndpointMethodInvoker(method,
+                        vaadinEndpointMapper));
         Map<String, JsonNode> requestParameters = getRequestParameters(body);
-        Parameter[] javaParameters = methodToInvoke.getParameters();
+        Parameter[] javaParameters = invoker.parameters;
         if (javaParameters.length != requestParameters.size()) {
             return ResponseEntity.badRequest()
                     .body(createResponseErrorObject(String.format(
@@ -325,7 +335,7 @@ public class VaadinConnectController {
         Object[] vaadinEndpointParameters;
         try {
             vaadinEndpointParameters = getVaadinEndpointParameters(
-                    requestParameters, javaParameters, methodName, endpointName);
+                    requestParameters, invoker, methodName, endpointName);
         } catch (EndpointValidationException e) {
             getLogger().debug(
                     "Endpoint '{}' method '{}' received invalid response",
@@ -351,7 +361,7 @@ public class VaadinConnectController {
 
         Object returnValue;
         try {
-            returnValue = methodToInvoke.invoke(
+            returnValue = invoker.invoke(
                     vaadinEndpointData.getEndpointObject(),
                     vaadinEndpointParameters);
         } catch (IllegalArgumentException e) {
@@ -435,8 +445,10 @@ public class VaadinConnectController {
     }
 
     private Object[] getVaadinEndpointParameters(
-            Map<String, JsonNode> requestParameters, Parameter[] javaParameters,
-            String methodName, String endpointName) {
+            Map<String, JsonNode> requestParameters,
+            EndpointMethodInvoker invoker, String methodName,
+            String endpointName) {
+        Parameter[] javaParameters = invoker.parameters;
         Object[] endpointParameters = new Object[javaParameters.length];
         String[] parameterNames = new String[requestParameters.size()];
         requestParameters.keySet().toArray(parameterNames);
@@ -446,9 +458,7 @@ public class VaadinConnectController {
         for (int i = 0; i < javaParameters.length; i++) {
             Type expectedType = javaParameters[i].getParameterizedType();
             try {
-                Object parameter = vaadinEndpointMapper
-                        .readerFor(vaadinEndpointMapper.getTypeFactory()
-                                .constructType(expectedType))
+                Object parameter = invoker.parameterReaders[i]
                         .readValue(requestParameters.get(parameterNames[i]));
 
                 endpointParameters[i] = parameter;
@@ -559,4 +569,74 @@ public class VaadinConnectController {
             return vaadinEndpointObject;
         }
     }
+
+    /**
+     * The parts of an endpoint method that are the same for every call: the
+     * parameters, the readers for the parameter types and a method handle to
+     * invoke the method with. Created on the first call of the method.
+     */
+    private static final class EndpointMethodInvoker {
+        private final Method method;
+        private final Parameter[] parameters;
+        private final ObjectReader[] parameterReaders;
+        private final MethodHandle handle;
+
+        private EndpointMethodInvoker(Method method, ObjectMapper mapper) {
+            this.method = method;
+            parameters = method.getParameters();
+            parameterReaders = new ObjectReader[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterReaders[i] = mapper.readerFor(mapper.getTypeFactory()
+                        .constructType(parameters[i].getParameterizedType()));
+            }
+            handle = createHandle(method);
+        }
+
+        /**
+         * Creates a handle of type {@code (Object, Object[])Object} taking the
+         * endpoint object and the arguments, or <code>null</code> if the
+         * method is not accessible.
+         */
+        private static MethodHandle createHandle(Method method) {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) { // NOSONAR
+                // Let the reflective invocation report the failure
+                return null;
+            }
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            int parameterCount = method.getParameterCount();
+            return handle
+                    .asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+        }
+
+        /**
+         * Invokes the method with the same exceptions as
+         * {@link Method#invoke(Object, Object...)}.
+         */
+        private Object invoke(Object endpointObject, Object[] arguments)
+                throws IllegalAccessException, InvocationTargetException {
+            if (handle == null) {
+                return method.invoke(endpointObject, arguments);
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                Class<?> type = ClassUtils
+                        .resolvePrimitiveIfNecessary(parameters[i].getType());
+                if (arguments[i] == null ? parameters[i].getType().isPrimitive()
+                        : !type.isInstance(arguments[i])) {
+                    throw new IllegalArgumentException(
+                            "argument type mismatch");
+                }
+            }
+            try {
+                return (Object) handle.invokeExact(endpointObject, arguments);
+            } catch (Throwable e) { // NOSONAR
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
 }
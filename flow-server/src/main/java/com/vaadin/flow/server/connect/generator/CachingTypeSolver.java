@@ -0,0 +1,81 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.connect.generator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+
+/**
+ * A type solver that remembers the results of another type solver, including
+ * the names that could not be solved.
+ * <p>
+ * While resolving the types used by endpoints, the same names are looked up
+ * many times, and most candidate names built from imports and packages do not
+ * exist. The class loader based type solvers try to load the class for every
+ * lookup, which is slow especially when the class is not found.
+ * <p>
+ * The cache is not thread safe and should only be used for a single
+ * generation.
+ *
+ * @since
+ */
+class CachingTypeSolver implements TypeSolver {
+
+    private final TypeSolver delegate;
+    private final Map<String, SymbolReference<ResolvedReferenceTypeDeclaration>> cache = new HashMap<>();
+    private TypeSolver parent;
+
+    /**
+     * Creates a cache for the given type solver. The type solver becomes a
+     * child of the cache so that the types it creates also resolve other types
+     * through the cache.
+     *
+     * @param delegate
+     *            the type solver to cache, not <code>null</code>
+     */
+    CachingTypeSolver(TypeSolver delegate) {
+        this.delegate = delegate;
+        delegate.setParent(this);
+    }
+
+    @Override
+    public TypeSolver getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(TypeSolver parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(
+            String name) {
+        // Not using computeIfAbsent since solving a type may solve other
+        // types through this cache
+        SymbolReference<ResolvedReferenceTypeDeclaration> reference = cache
+                .get(name);
+        if (reference == null) {
+            reference = delegate.tryToSolveType(name);
+            cache.put(name, reference);
+        }
+        return reference;
+    }
+}
@@ -100,6 +100,10 @@ import com.vaadin.flow.server.connect.auth.AnonymousAllowed;
 /**
  * Java parser class which scans for all {@link Endpoint} classes and
  * produces OpenApi json.
+ * <p>
+ * The source files are parsed in parallel. Resolving the types used by the
+ * endpoints is not thread safe, so the parsed compilation units are processed
+ * one by one in the order of their paths.
  */
 public class OpenApiObjectGenerator {
     public static final String EXTENSION_VAADIN_CONNECT_PARAMETERS_DESCRIPTION = "x-vaadin-parameters-description";
@@ -222,13 +226,16 @@ public class OpenApiObjectGenerator {
             combinedTypeSolver
                     .add(new ClassLoaderTypeSolver(typeResolverClassLoader));
         }
-        return new ParserConfiguration()
-                .setSymbolResolver(new JavaSymbolSolver(combinedTypeSolver));
+        return new ParserConfiguration().setSymbolResolver(
+                new JavaSymbolSolver(new CachingTypeSolver(combinedTypeSolver)));
     }
 
     private void parseSourceRoot(SourceRoot sourceRoot) {
         try {
-            sourceRoot.parse("", this::process);
+            sourceRoot.tryToParseParallelized().stream()
+                    .sorted(Comparator.comparing(
+                            OpenApiObjectGenerator::getSourcePath))
+                    .forEach(this::process);
         } catch (Exception e) {
             throw new IllegalStateException(String.format(
                     "Can't parse the java files in the source root '%s'",
@@ -279,9 +286,12 @@ public class OpenApiObjectGenerator {
         return openAPI;
     }
 
-    @SuppressWarnings("squid:S1172")
-    private SourceRoot.Callback.Result process(Path localPath,
-            Path absolutePath, ParseResult<CompilationUnit> result) {
+    private static String getSourcePath(ParseResult<CompilationUnit> result) {
+        return result.getResult().flatMap(CompilationUnit::getStorage)
+                .map(storage -> storage.getPath().toString()).orElse("");
+    }
+
+    private void process(ParseResult<CompilationUnit> result) {
         result.ifSuccessful(compilationUnit -> compilationUnit.getPrimaryType()
                 .filter(BodyDeclaration::isClassOrInterfaceDeclaration)
                 .map(BodyDeclaration::asClassOrInterfaceDeclaration)
@@ -292,7 +302,6 @@ public class OpenApiObjectGenerator {
                         classOrInterfaceDeclaration, compilationUnit)));
         pathItems.forEach((pathName, pathItem) -> openApiModel.getPaths()
                 .addPathItem(pathName, pathItem));
-        return SourceRoot.Callback.Result.DONT_SAVE;
     }
 
     private Collection<ClassOrInterfaceDeclaration> appendNestedClasses(
@@ -18,13 +18,24 @@ package com.vaadin.flow.server.frontend;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.internal.MessageDigestUtil;
+
 /**
  * Abstract class for connect related generators.
  */
@@ -55,6 +66,134 @@ abstract class AbstractTaskConnectGenerator implements FallibleCommand {
         return config;
     }
 
+    /**
+     * Gets a string that changes whenever the application properties used by
+     * the generators change.
+     *
+     * @return the application properties as a string
+     */
+    protected String getApplicationPropertiesFingerprint() {
+        return new TreeMap<>(readApplicationProperties()).toString();
+    }
+
+    /**
+     * Checks whether the output of the task was generated from the input with
+     * the given fingerprint.
+     *
+     * @param fingerprintFile
+     *            the file the fingerprint of the previous generation was
+     *            stored in
+     * @param fingerprint
+     *            the fingerprint of the current input, or <code>null</code> if
+     *            it could not be computed
+     * @return <code>true</code> if the output is up to date,
+     *         <code>false</code> if it should be generated
+     */
+    protected boolean isUpToDate(File fingerprintFile, String fingerprint) {
+        if (fingerprint == null || !fingerprintFile.isFile()) {
+            return false;
+        }
+        try {
+            return fingerprint.equals(FileUtils
+                    .readFileToString(fingerprintFile, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log().debug("Unable to read {}", fingerprintFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Stores the fingerprint of the input the output was generated from.
+     *
+     * @param fingerprintFile
+     *            the file to store the fingerprint in
+     * @param fingerprint
+     *            the fingerprint of the input, or <code>null</code> to remove
+     *            a stored fingerprint
+     */
+    protected void storeFingerprint(File fingerprintFile, String fingerprint) {
+        if (fingerprint == null) {
+            FileUtils.deleteQuietly(fingerprintFile);
+            return;
+        }
+        try {
+            FileUtils.writeStringToFile(fingerprintFile, fingerprint,
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log().warn("Unable to write {}", fingerprintFile, e);
+        }
+    }
+
+    /**
+     * Combines the fingerprint of the input of a task with the content of its
+     * output, so that the output is generated again if it has been modified or
+     * removed since it was generated.
+     *
+     * @param fingerprint
+     *            the fingerprint of the input, or <code>null</code> if it could
+     *            not be computed
+     * @param output
+     *            the generated file, or a folder containing the generated
+     *            files
+     * @return the fingerprint of the input and the output, or
+     *         <code>null</code> if the output does not exist or either
+     *         fingerprint could not be computed
+     */
+    protected String addOutputFingerprint(String fingerprint, File output) {
+        if (fingerprint == null || !output.exists()) {
+            return null;
+        }
+        StringBuilder content = new StringBuilder(fingerprint);
+        try {
+            appendChecksums(content, output.toPath(), Files::isRegularFile);
+        } catch (IOException e) {
+            log().debug("Unable to read {}", output, e);
+            return null;
+        }
+        return fingerprint(content.toString());
+    }
+
+    /**
+     * Appends the relative path and checksum of the matching files in the
+     * given file tree to a description of the input of a task. The files are
+     * appended in path order.
+     *
+     * @param input
+     *            the description to append to
+     * @param root
+     *            a file or the root of the file tree
+     * @param filter
+     *            the filter for the files to append
+     * @throws IOException
+     *             if the files cannot be read
+     */
+    protected static void appendChecksums(StringBuilder input, Path root,
+            Predicate<Path> filter) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> paths = files.filter(filter).sorted()
+                    .collect(Collectors.toList());
+            for (Path path : paths) {
+                input.append('\n').append(root.relativize(path)).append(':')
+                        .append(FileUtils.checksumCRC32(path.toFile()));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Hashes the given description of the input of a task into a short
+     * fingerprint.
+     *
+     * @param input
+     *            the description of the input
+     * @return the fingerprint
+     */
+    protected static String fingerprint(String input) {
+        return Base64.getEncoder()
+                .encodeToString(MessageDigestUtil.sha256(input));
+    }
+
     Logger log() {
         return LoggerFactory.getLogger(AbstractTaskConnectGenerator.class);
     }
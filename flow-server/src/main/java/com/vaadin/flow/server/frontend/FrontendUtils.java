@@ -132,6 +132,13 @@ public class FrontendUtils {
     public static final String DEAULT_FLOW_RESOURCES_FOLDER = TARGET
             + "flow-frontend";
 
+    /**
+     * Default file for caching the results of the byte code scanner between
+     * builds.
+     */
+    public static final String DEFAULT_SCAN_CACHE_FILE = TARGET
+            + "flow-frontend-scan-cache.bin";
+
     /**
      * Default folder name for flow generated stuff relative to the
      * {@link FrontendUtils#TARGET}.
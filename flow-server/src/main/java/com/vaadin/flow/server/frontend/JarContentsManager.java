@@ -240,6 +240,8 @@ public class JarContentsManager {
      * @param wildcardPathInclusions
      *            wildcard inclusions that are used to check each path against
      *            before copying
+     * @return the paths of the matching files relative to the output
+     *         directory, including the files that were already up to date
      * @throws IllegalArgumentException
      *             if jar file specified is not a file or does not exist or if
      *             output directory is not a directory or does not exist
@@ -249,7 +251,7 @@ public class JarContentsManager {
      *             if {@link IOException} occurs during the operation, for
      *             instance, when jar file specified is not a jar file
      */
-    public void copyIncludedFilesFromJarTrimmingBasePath(File jar,
+    public List<String> copyIncludedFilesFromJarTrimmingBasePath(File jar,
             String jarDirectoryToCopyFrom, File outputDirectory,
             String... wildcardPathInclusions) {
         requireFileExistence(jar);
@@ -263,12 +265,13 @@ public class JarContentsManager {
         String basePath = normalizeJarBasePath(jarDirectoryToCopyFrom);
 
         try (JarFile jarFile = new JarFile(jar, false)) {
-            jarFile.stream().filter(file -> !file.isDirectory())
+            return jarFile.stream().filter(file -> !file.isDirectory())
                     .filter(file -> file.getName().toLowerCase(Locale.ENGLISH)
                             .startsWith(basePath.toLowerCase(Locale.ENGLISH)))
                     .filter(file -> includeFile(file, wildcardPathInclusions))
-                    .forEach(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
-                            jarEntry, basePath, outputDirectory));
+                    .map(jarEntry -> copyJarEntryTrimmingBasePath(jarFile,
+                            jarEntry, basePath, outputDirectory))
+                    .collect(Collectors.toList());
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
                     "Failed to extract files from jarFile '%s' to directory '%s'",
@@ -297,7 +300,7 @@ public class JarContentsManager {
                 .wildcardMatch(filePath, inclusionRule));
     }
 
-    private void copyJarEntryTrimmingBasePath(JarFile jarFile,
+    private String copyJarEntryTrimmingBasePath(JarFile jarFile,
             ZipEntry jarEntry, String basePath, File outputDirectory) {
         String fullPath = jarEntry.getName();
         String relativePath = fullPath
@@ -306,20 +309,12 @@ public class JarContentsManager {
                         + basePath.length());
         File target = new File(outputDirectory, relativePath);
         try {
-            if (target.exists()) {
-                File tempFile = File.createTempFile(fullPath, null);
-                FileUtils.copyInputStreamToFile(
-                        jarFile.getInputStream(jarEntry), tempFile);
-                if (!FileUtils.contentEquals(tempFile, target)) {
-                    FileUtils.forceDelete(target);
-                    FileUtils.moveFile(tempFile, target);
-                } else {
-                    tempFile.delete();
-                }
-            } else {
+            if (!target.exists()
+                    || !hasSameContent(jarFile, jarEntry, target)) {
                 FileUtils.copyInputStreamToFile(
                         jarFile.getInputStream(jarEntry), target);
             }
+            return relativePath;
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
                     "Failed to extract jar entry '%s' from jarFile '%s'",
@@ -327,4 +322,21 @@ public class JarContentsManager {
         }
     }
 
+    /**
+     * Compares the size and CRC of the existing file to the ones stored in the
+     * jar, so that unchanged entries do not need to be extracted. Falls back
+     * to comparing the contents if the jar does not provide them.
+     */
+    private boolean hasSameContent(JarFile jarFile, ZipEntry jarEntry,
+            File file) throws IOException {
+        if (jarEntry.getSize() >= 0 && jarEntry.getCrc() >= 0) {
+            return jarEntry.getSize() == file.length()
+                    && jarEntry.getCrc() == FileUtils.checksumCRC32(file);
+        }
+        try (InputStream entryStream = jarFile.getInputStream(jarEntry);
+                InputStream fileStream = FileUtils.openInputStream(file)) {
+            return IOUtils.contentEquals(entryStream, fileStream);
+        }
+    }
+
 }
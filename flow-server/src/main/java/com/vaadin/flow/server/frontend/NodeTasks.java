@@ -19,9 +19,19 @@ package com.vaadin.flow.server.frontend;
 import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.server.ExecutionFailedException;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
@@ -78,6 +88,8 @@ public class NodeTasks implements FallibleCommand {
 
         private boolean useByteCodeScanner = false;
 
+        private File scanCacheFile;
+
         private JsonObject tokenFileData;
 
         private File tokenFile;
@@ -94,6 +106,9 @@ public class NodeTasks implements FallibleCommand {
 
         private boolean requireHomeNodeExec;
 
+        private int parallelism = Math.max(1,
+                Math.min(4, Runtime.getRuntime().availableProcessors()));
+
         /**
          * Directory for for npm and folders and files.
          */
@@ -400,6 +415,21 @@ public class NodeTasks implements FallibleCommand {
             return this;
         }
 
+        /**
+         * Sets the file where the byte code scanner stores the results of the
+         * scan. Class files which have not changed since the previous scan are
+         * then not read again. Only used with the byte code scanner.
+         *
+         * @param scanCacheFile
+         *            the scan cache file, or {@code null} to scan all classes
+         *            on every run (by default)
+         * @return the builder, for chaining
+         */
+        public Builder withScanCacheFile(File scanCacheFile) {
+            this.scanCacheFile = scanCacheFile;
+            return this;
+        }
+
         /**
          * Fill token file data into the provided {@code object}.
          *
@@ -449,11 +479,53 @@ public class NodeTasks implements FallibleCommand {
             this.requireHomeNodeExec = requireHomeNodeExec;
             return this;
         }
+
+        /**
+         * Sets the maximum number of tasks which are run concurrently. Tasks
+         * are only run concurrently if they do not depend on each other's
+         * results. By default up to four tasks are run concurrently, depending
+         * on the number of available processors.
+         *
+         * @param parallelism
+         *            the maximum number of concurrent tasks, {@code 1} to run
+         *            all tasks sequentially
+         * @return the builder, for chaining
+         */
+        public Builder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException(
+                        "Parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
     }
 
-    private final Collection<FallibleCommand> commands = new ArrayList<>();
+    /**
+     * The commands to run, in a valid sequential order, mapped to the commands
+     * they depend on.
+     */
+    private final Map<FallibleCommand, List<FallibleCommand>> commands = new LinkedHashMap<>();
+
+    private final int parallelism;
+
+    /**
+     * Creates an instance running the given commands. Used in tests.
+     *
+     * @param commands
+     *            the commands in a valid sequential order, mapped to the
+     *            commands they depend on
+     * @param parallelism
+     *            the maximum number of concurrent commands
+     */
+    NodeTasks(Map<FallibleCommand, List<FallibleCommand>> commands,
+            int parallelism) {
+        this.commands.putAll(commands);
+        this.parallelism = parallelism;
+    }
 
     private NodeTasks(Builder builder) {
+        parallelism = builder.parallelism;
 
         ClassFinder classFinder = new ClassFinder.CachedClassFinder(
                 builder.classFinder);
@@ -468,14 +540,15 @@ public class NodeTasks implements FallibleCommand {
 
             frontendDependencies = new FrontendDependenciesScanner.FrontendDependenciesScannerFactory()
                     .createScanner(!builder.useByteCodeScanner, classFinder,
-                            builder.generateEmbeddableWebComponents);
+                            builder.generateEmbeddableWebComponents,
+                            builder.scanCacheFile);
         }
 
+        TaskGeneratePackageJson packageCreator = null;
         if (builder.createMissingPackageJson) {
-            TaskGeneratePackageJson packageCreator = new TaskGeneratePackageJson(
-                    builder.npmFolder, builder.generatedFolder,
-                    builder.flowResourcesFolder);
-            commands.add(packageCreator);
+            packageCreator = new TaskGeneratePackageJson(builder.npmFolder,
+                    builder.generatedFolder, builder.flowResourcesFolder);
+            addCommand(packageCreator);
         }
 
         if (!builder.useDeprecatedV14Bootstrapping) {
@@ -488,33 +561,50 @@ public class NodeTasks implements FallibleCommand {
             }
         }
 
+        // Both write package.json files and TaskUpdatePackages removes
+        // outdated files from the flow resources folder
+        TaskUpdatePackages packageUpdater = null;
         if (builder.enablePackagesUpdate) {
-            TaskUpdatePackages packageUpdater = new TaskUpdatePackages(
-                    classFinder, frontendDependencies, builder.npmFolder,
+            packageUpdater = new TaskUpdatePackages(classFinder,
+                    frontendDependencies, builder.npmFolder,
                     builder.generatedFolder, builder.flowResourcesFolder,
                     builder.cleanNpmFiles, builder.enablePnpm);
-            commands.add(packageUpdater);
-
-            if (builder.runNpmInstall) {
-                commands.add(new TaskRunNpmInstall(classFinder, packageUpdater,
-                        builder.enablePnpm, builder.requireHomeNodeExec));
-            }
+            addCommand(packageUpdater, packageCreator);
         }
 
+        List<FallibleCommand> copyTasks = new ArrayList<>();
         if (builder.jarFiles != null) {
-            commands.add(new TaskCopyFrontendFiles(builder.flowResourcesFolder,
-                    builder.jarFiles));
+            TaskCopyFrontendFiles jarCopy = new TaskCopyFrontendFiles(
+                    builder.flowResourcesFolder, builder.jarFiles);
+            addCommand(jarCopy, packageCreator, packageUpdater);
+            copyTasks.add(jarCopy);
 
             if (builder.localResourcesFolder != null) {
-                commands.add(new TaskCopyLocalFrontendFiles(
+                // Both copy to the same folder and the local files must
+                // override the files from the JARs
+                TaskCopyLocalFrontendFiles localCopy = new TaskCopyLocalFrontendFiles(
                         builder.flowResourcesFolder,
-                        builder.localResourcesFolder));
+                        builder.localResourcesFolder);
+                addCommand(localCopy, packageCreator, packageUpdater,
+                        jarCopy);
+                copyTasks.add(localCopy);
             }
         }
 
+        // npm install links or copies the flow resources folder, so it
+        // runs after the folder is complete
+        if (packageUpdater != null && builder.runNpmInstall) {
+            List<FallibleCommand> installDependencies = new ArrayList<>(
+                    copyTasks);
+            installDependencies.add(packageUpdater);
+            addCommand(new TaskRunNpmInstall(classFinder, packageUpdater,
+                    builder.enablePnpm, builder.requireHomeNodeExec),
+                    installDependencies.toArray(new FallibleCommand[0]));
+        }
+
         if (builder.webpackTemplate != null
                 && !builder.webpackTemplate.isEmpty()) {
-            commands.add(new TaskUpdateWebpack(builder.frontendDirectory,
+            addCommand(new TaskUpdateWebpack(builder.frontendDirectory,
                     builder.npmFolder, builder.webpackOutputDirectory,
                     builder.webpackTemplate, builder.webpackGeneratedTemplate,
                     new File(builder.generatedFolder, IMPORTS_NAME),
@@ -522,13 +612,37 @@ public class NodeTasks implements FallibleCommand {
         }
 
         if (builder.enableImportsUpdate) {
-            commands.add(
+            // The imports are checked against the installed and copied
+            // resources, so wait for everything else
+            addCommand(
                     new TaskUpdateImports(classFinder, frontendDependencies,
                             finder -> getFallbackScanner(builder, finder),
                             builder.npmFolder, builder.generatedFolder,
                             builder.frontendDirectory, builder.tokenFile,
-                            builder.tokenFileData, builder.enablePnpm));
+                            builder.tokenFileData, builder.enablePnpm),
+                    commands.keySet().toArray(new FallibleCommand[0]));
+        }
+    }
+
+    /**
+     * Adds a command to run after the given commands have completed.
+     *
+     * @param command
+     *            the command to add
+     * @param dependencies
+     *            already added commands that must complete before the command
+     *            is run, <code>null</code> values are ignored
+     */
+    private void addCommand(FallibleCommand command,
+            FallibleCommand... dependencies) {
+        List<FallibleCommand> dependencyList = new ArrayList<>();
+        for (FallibleCommand dependency : dependencies) {
+            if (dependency != null) {
+                assert commands.containsKey(dependency);
+                dependencyList.add(dependency);
+            }
         }
+        commands.put(command, dependencyList);
     }
 
     private void addBootstrapTasks(Builder builder) {
@@ -536,20 +650,20 @@ public class NodeTasks implements FallibleCommand {
                 FrontendUtils.TARGET);
         TaskGenerateIndexHtml taskGenerateIndexHtml = new TaskGenerateIndexHtml(
                 builder.frontendDirectory, outputDirectory);
-        commands.add(taskGenerateIndexHtml);
+        addCommand(taskGenerateIndexHtml);
         TaskGenerateIndexTs taskGenerateIndexTs = new TaskGenerateIndexTs(
                 builder.frontendDirectory,
                 new File(builder.generatedFolder, IMPORTS_NAME),
                 outputDirectory);
-        commands.add(taskGenerateIndexTs);
+        addCommand(taskGenerateIndexTs);
 
         TaskGenerateTsConfig taskGenerateTsConfig = new TaskGenerateTsConfig(
                 builder.npmFolder);
-        commands.add(taskGenerateTsConfig);
+        addCommand(taskGenerateTsConfig);
 
         TaskGenerateTsDefinitions taskGenerateTsDefinitions = new TaskGenerateTsDefinitions(
                 builder.npmFolder);
-        commands.add(taskGenerateTsDefinitions);
+        addCommand(taskGenerateTsDefinitions);
     }
 
     private void addConnectServicesTasks(Builder builder) {
@@ -558,7 +672,7 @@ public class NodeTasks implements FallibleCommand {
                 builder.connectJavaSourceFolder,
                 builder.classFinder.getClassLoader(),
                 builder.connectGeneratedOpenApiFile);
-        commands.add(taskGenerateOpenApi);
+        addCommand(taskGenerateOpenApi);
 
         if (builder.connectClientTsApiFolder != null) {
             TaskGenerateConnect taskGenerateConnectTs = new TaskGenerateConnect(
@@ -566,7 +680,7 @@ public class NodeTasks implements FallibleCommand {
                     builder.connectGeneratedOpenApiFile,
                     builder.connectClientTsApiFolder,
                     builder.frontendDirectory);
-            commands.add(taskGenerateConnectTs);
+            addCommand(taskGenerateConnectTs, taskGenerateOpenApi);
         }
     }
 
@@ -581,11 +695,78 @@ public class NodeTasks implements FallibleCommand {
         }
     }
 
+    /**
+     * Runs the tasks. Tasks that do not depend on each other are run
+     * concurrently, unless the parallelism has been set to {@code 1}. If a
+     * task fails, the tasks depending on it are not run and the failure of the
+     * first failed task is thrown once all running tasks have completed.
+     */
     @Override
     public void execute() throws ExecutionFailedException {
-        for (FallibleCommand command : commands) {
-            command.execute();
+        if (parallelism == 1 || commands.size() < 2) {
+            for (FallibleCommand command : commands.keySet()) {
+                executeCommand(command);
+            }
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "node-tasks-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            Map<FallibleCommand, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+            commands.forEach((command, dependencies) -> futures.put(command,
+                    CompletableFuture
+                            .allOf(dependencies.stream().map(futures::get)
+                                    .toArray(CompletableFuture[]::new))
+                            .thenRunAsync(() -> {
+                                try {
+                                    executeCommand(command);
+                                } catch (ExecutionFailedException e) {
+                                    throw new CompletionException(e);
+                                }
+                            }, executor)));
+
+            Throwable failure = null;
+            for (CompletableFuture<Void> future : futures.values()) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+            if (failure instanceof ExecutionFailedException) {
+                throw (ExecutionFailedException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new ExecutionFailedException(failure);
+            }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
+    private static void executeCommand(FallibleCommand command)
+            throws ExecutionFailedException {
+        long start = System.nanoTime();
+        command.execute();
+        getLogger().debug("Task {} took {} ms",
+                command.getClass().getSimpleName(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(NodeTasks.class);
+    }
+
 }
@@ -16,19 +16,34 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import elemental.json.Json;
+import elemental.json.JsonException;
+import elemental.json.JsonObject;
+import elemental.json.impl.JsonUtil;
+
 import static com.vaadin.flow.server.Constants.COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT;
 import static com.vaadin.flow.server.Constants.RESOURCES_FRONTEND_DEFAULT;
 
 
 /**
  * Copies JavaScript and CSS files from JAR files into a given folder.
+ * <p>
+ * The files copied from each JAR file are recorded in a manifest next to the
+ * target folder. A JAR file whose size and modification time are the same as
+ * on the previous run is skipped if all files copied from it are still
+ * unmodified in the target folder.
  *
  * @since 2.0
  */
@@ -36,6 +51,10 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
     private static final String[] WILDCARD_INCLUSIONS = new String[] {
             "**/*.js", "**/*.css", "**/*.ts" };
 
+    private static final String MANIFEST_SUFFIX = ".copy-manifest.json";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FILES = "files";
+
     private File targetDirectory;
     private Set<File> resourceLocations = null;
 
@@ -63,6 +82,11 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
         log().info("Copying frontend resources from jar files ...");
         TaskCopyLocalFrontendFiles.createTargetFolder(targetDirectory);
         JarContentsManager jarContentsManager = new JarContentsManager();
+        File manifestFile = new File(targetDirectory.getAbsoluteFile()
+                .getParentFile(), targetDirectory.getName() + MANIFEST_SUFFIX);
+        JsonObject previousManifest = readManifest(manifestFile);
+        JsonObject manifest = Json.createObject();
+        int skipped = 0;
         for (File location : resourceLocations) {
             if (location.isDirectory()) {
                 TaskCopyLocalFrontendFiles.copyLocalResources(
@@ -73,17 +97,86 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
                                 COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT),
                         targetDirectory);
             } else {
-                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
-                        location, RESOURCES_FRONTEND_DEFAULT, targetDirectory,
-                        WILDCARD_INCLUSIONS);
-                jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
-                        location, COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
-                        targetDirectory, WILDCARD_INCLUSIONS);
+                String key = location.getAbsolutePath();
+                String fingerprint = getFingerprint(location);
+                JsonObject entry = previousManifest.hasKey(key)
+                        ? previousManifest.getObject(key)
+                        : null;
+                if (entry != null && isUpToDate(entry, fingerprint)) {
+                    manifest.put(key, entry);
+                    skipped++;
+                    continue;
+                }
+                List<String> files = new ArrayList<>();
+                files.addAll(jarContentsManager
+                        .copyIncludedFilesFromJarTrimmingBasePath(location,
+                                RESOURCES_FRONTEND_DEFAULT, targetDirectory,
+                                WILDCARD_INCLUSIONS));
+                files.addAll(jarContentsManager
+                        .copyIncludedFilesFromJarTrimmingBasePath(location,
+                                COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT,
+                                targetDirectory, WILDCARD_INCLUSIONS));
+                manifest.put(key, createManifestEntry(fingerprint, files));
             }
         }
+        writeManifest(manifestFile, manifest);
         long ms = (System.nanoTime() - start) / 1000000;
-        log().info("Visited {} resources. Took {} ms.",
-                resourceLocations.size(), ms);
+        log().info("Visited {} resources ({} unchanged jar files skipped). Took {} ms.",
+                resourceLocations.size(), skipped, ms);
+    }
+
+    private boolean isUpToDate(JsonObject entry, String fingerprint) {
+        if (!entry.hasKey(FINGERPRINT) || !entry.hasKey(FILES)
+                || !fingerprint.equals(entry.getString(FINGERPRINT))) {
+            return false;
+        }
+        JsonObject files = entry.getObject(FILES);
+        for (String path : files.keys()) {
+            File file = new File(targetDirectory, path);
+            if (!file.isFile()
+                    || !getFingerprint(file).equals(files.getString(path))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonObject createManifestEntry(String fingerprint,
+            List<String> copiedFiles) {
+        JsonObject files = Json.createObject();
+        for (String path : copiedFiles) {
+            files.put(path, getFingerprint(new File(targetDirectory, path)));
+        }
+        JsonObject entry = Json.createObject();
+        entry.put(FINGERPRINT, fingerprint);
+        entry.put(FILES, files);
+        return entry;
+    }
+
+    private static String getFingerprint(File file) {
+        return file.length() + ":" + file.lastModified();
+    }
+
+    private JsonObject readManifest(File manifestFile) {
+        if (manifestFile.isFile()) {
+            try {
+                return Json.parse(FileUtils.readFileToString(manifestFile,
+                        StandardCharsets.UTF_8));
+            } catch (IOException | JsonException e) { // NOSONAR
+                log().debug("Ignoring unreadable manifest {}", manifestFile,
+                        e);
+            }
+        }
+        return Json.createObject();
+    }
+
+    private void writeManifest(File manifestFile, JsonObject manifest) {
+        try {
+            FileUtils.writeStringToFile(manifestFile,
+                    JsonUtil.stringify(manifest, 2), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log().warn("Unable to write manifest {}", manifestFile, e);
+        }
     }
 
     private Logger log() {
@@ -16,8 +16,12 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
+import org.apache.commons.io.FileUtils;
+
 import com.vaadin.flow.server.ExecutionFailedException;
 import com.vaadin.flow.server.connect.generator.VaadinConnectClientGenerator;
 import com.vaadin.flow.server.connect.generator.VaadinConnectTsGenerator;
@@ -27,6 +31,10 @@ import static com.vaadin.flow.server.connect.generator.VaadinConnectClientGenera
 
 /**
  * Generate the Vaadin Connect TS files for endpoints, and the Client API file.
+ * <p>
+ * The generation is skipped if the files in the output folder have not been
+ * modified since they were generated from the same OpenAPI json file and
+ * application properties.
  */
 public class TaskGenerateConnect extends AbstractTaskConnectGenerator {
 
@@ -34,6 +42,7 @@ public class TaskGenerateConnect extends AbstractTaskConnectGenerator {
     private final File openApi;
     private final File connectClientFile;
     private final File frontendDirectory;
+    private final File fingerprintFile;
 
     /**
      * Create a task for generating TS files based.
@@ -58,15 +67,42 @@ public class TaskGenerateConnect extends AbstractTaskConnectGenerator {
         this.outputFolder = outputFolder;
         this.connectClientFile = new File(outputFolder, CONNECT_CLIENT_NAME);
         this.frontendDirectory = frontendDirectory;
+        this.fingerprintFile = new File(openApi.getPath() + ".ts.fingerprint");
     }
 
     @Override
     public void execute() throws ExecutionFailedException {
         File customConnectClient = new File(frontendDirectory, CUSTOM_CONNECT_CLIENT_NAME);
         String customName = customConnectClient.exists() ? ("../" + CUSTOM_CONNECT_CLIENT_NAME) : null;
+        String fingerprint = computeFingerprint(customName);
+        if (isUpToDate(fingerprintFile,
+                addOutputFingerprint(fingerprint, outputFolder))) {
+            log().debug("Skipping TypeScript generation, {} is up to date",
+                    outputFolder);
+            return;
+        }
         if (VaadinConnectTsGenerator.launch(openApi, outputFolder, customName)) {
             new VaadinConnectClientGenerator(readApplicationProperties())
                     .generateVaadinConnectClientFile(connectClientFile.toPath());
+            storeFingerprint(fingerprintFile,
+                    addOutputFingerprint(fingerprint, outputFolder));
+        } else {
+            storeFingerprint(fingerprintFile, null);
+        }
+    }
+
+    private String computeFingerprint(String customName) {
+        if (!openApi.exists()) {
+            return null;
+        }
+        try {
+            return fingerprint(getApplicationPropertiesFingerprint() + '\n'
+                    + customName + '\n' + outputFolder.getAbsolutePath()
+                    + '\n' + FileUtils.readFileToString(openApi,
+                            StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log().debug("Unable to read {}", openApi, e);
+            return null;
         }
     }
 }
@@ -16,21 +16,33 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.Objects;
 
+import org.apache.commons.io.FileUtils;
+
 import com.vaadin.flow.server.ExecutionFailedException;
 import com.vaadin.flow.server.connect.Endpoint;
 import com.vaadin.flow.server.connect.generator.OpenApiSpecGenerator;
 
 /**
  * Generate OpenAPI json file for Connect Endpoints.
+ * <p>
+ * The generation is skipped if the file has not been modified since it was
+ * generated from the same input: the application properties, the content of the
+ * Java source files, the content of the class folders and the size and
+ * modification time of the JAR files of the class loader. If the class path
+ * of the class loader cannot be determined, the file is always generated.
  */
 public class TaskGenerateOpenApi extends AbstractTaskConnectGenerator {
 
     private final File javaSourceFolder;
     private final transient ClassLoader classLoader;
     private final File output;
+    private final File fingerprintFile;
 
     /**
      * Create a task for generating OpenAPI spec.
@@ -55,14 +67,89 @@ public class TaskGenerateOpenApi extends AbstractTaskConnectGenerator {
         this.javaSourceFolder = javaSourceFolder;
         this.classLoader = classLoader;
         this.output = output;
+        this.fingerprintFile = new File(output.getPath() + ".fingerprint");
     }
 
     @Override
     public void execute() throws ExecutionFailedException {
+        String fingerprint = computeFingerprint();
+        if (isUpToDate(fingerprintFile,
+                addOutputFingerprint(fingerprint, output))) {
+            log().debug("Skipping OpenAPI generation, {} is up to date",
+                    output);
+            return;
+        }
         OpenApiSpecGenerator openApiSpecGenerator = new OpenApiSpecGenerator(
                 readApplicationProperties());
         openApiSpecGenerator.generateOpenApiSpec(
                 Collections.singletonList(javaSourceFolder.toPath()),
                 classLoader, output.toPath());
+        storeFingerprint(fingerprintFile,
+                addOutputFingerprint(fingerprint, output));
+    }
+
+    private String computeFingerprint() {
+        StringBuilder input = new StringBuilder(
+                getApplicationPropertiesFingerprint());
+        try {
+            appendChecksums(input, javaSourceFolder.toPath(),
+                    path -> path.toString().endsWith(".java"));
+        } catch (IOException e) {
+            log().debug("Unable to read the sources in {}", javaSourceFolder,
+                    e);
+            return null;
+        }
+        if (!appendClassPath(input)) {
+            log().debug(
+                    "Unable to determine the class path of {}, the OpenAPI file is always generated",
+                    classLoader);
+            return null;
+        }
+        return fingerprint(input.toString());
+    }
+
+    /**
+     * Appends the class path of the class loader and its parents up to the
+     * system class loader, which loads the classes of the JVM or the build
+     * tool rather than the application.
+     *
+     * @return <code>false</code> if the class path cannot be determined
+     */
+    private boolean appendClassPath(StringBuilder input) {
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        ClassLoader loader = classLoader;
+        while (loader != null) {
+            if (!(loader instanceof URLClassLoader)) {
+                return false;
+            }
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                File file = FileUtils.toFile(url);
+                if (file == null) {
+                    return false;
+                } else if (file.isDirectory()) {
+                    try {
+                        input.append('\n').append(file);
+                        appendChecksums(input, file.toPath(),
+                                path -> path.toString().endsWith(".class"));
+                    } catch (IOException e) {
+                        log().debug("Unable to read the classes in {}", file,
+                                e);
+                        return false;
+                    }
+                } else if (file.isFile()) {
+                    input.append('\n').append(file).append(':')
+                            .append(file.length()).append(':')
+                            .append(file.lastModified());
+                }
+            }
+            if (loader == systemClassLoader) {
+                break;
+            }
+            loader = loader.getParent();
+            if (loader == systemClassLoader) {
+                break;
+            }
+        }
+        return true;
     }
 }
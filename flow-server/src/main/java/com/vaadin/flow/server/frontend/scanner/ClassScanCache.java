@@ -0,0 +1,201 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the {@link ScannedClass} instances of a dependency scan and optionally
+ * persists them to a file so that the next scan only needs to read the class
+ * files that have changed.
+ * <p>
+ * A class file is considered unchanged if its fingerprint is the same as when
+ * it was read. For classes inside a JAR file the fingerprint is the CRC and
+ * size of the JAR entry, which are available without reading the entry. For
+ * classes in a directory it is the size and modification time of the file.
+ * Classes loaded from other locations are always read.
+ * <p>
+ * The methods of this class can be used from multiple threads.
+ *
+ * @since
+ */
+final class ClassScanCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File file;
+    private final Map<String, ScannedClass> stored;
+    private final Map<String, ScannedClass> scanned = new ConcurrentHashMap<>();
+    private final AtomicInteger reused = new AtomicInteger();
+
+    /**
+     * Creates a cache persisted in the given file. The entries of a previous
+     * scan are read from the file if it exists.
+     *
+     * @param file
+     *            the file to persist the cache in, or <code>null</code> to not
+     *            persist the cache
+     */
+    ClassScanCache(File file) {
+        this.file = file;
+        stored = file != null && file.isFile() ? read(file)
+                : new HashMap<>();
+    }
+
+    /**
+     * Gets the scanned class for the given class file. The class file is only
+     * read if it has not been scanned by this scan yet and the stored entry is
+     * missing or outdated.
+     *
+     * @param className
+     *            the name of the class
+     * @param url
+     *            the location of the class file, not <code>null</code>
+     * @return the scanned class
+     * @throws IOException
+     *             if the class file cannot be read
+     */
+    ScannedClass scan(String className, URL url) throws IOException {
+        ScannedClass scannedClass = scanned.get(className);
+        if (scannedClass != null) {
+            return scannedClass;
+        }
+        String fingerprint = getFingerprint(url);
+        scannedClass = stored.get(className);
+        if (fingerprint != null && scannedClass != null
+                && fingerprint.equals(scannedClass.getFingerprint())) {
+            reused.incrementAndGet();
+        } else {
+            try (InputStream stream = url.openStream()) {
+                scannedClass = ScannedClass.read(className, fingerprint,
+                        stream);
+            }
+        }
+        scanned.put(className, scannedClass);
+        return scannedClass;
+    }
+
+    /**
+     * Gets the scanned class for the given class if it has already been
+     * scanned by this scan.
+     *
+     * @param className
+     *            the name of the class
+     * @return the scanned class, or <code>null</code> if not scanned yet
+     */
+    ScannedClass getScanned(String className) {
+        return scanned.get(className);
+    }
+
+    /**
+     * Gets the number of classes that were not read because an up-to-date
+     * entry was found from the file.
+     *
+     * @return the number of reused entries
+     */
+    int getReusedCount() {
+        return reused.get();
+    }
+
+    /**
+     * Writes the classes scanned by this scan to the file, if any. Entries of
+     * classes that were not needed by this scan are dropped.
+     */
+    void store() {
+        if (file == null) {
+            return;
+        }
+        Map<String, ScannedClass> entries = new HashMap<>();
+        scanned.forEach((className, scannedClass) -> {
+            if (scannedClass.getFingerprint() != null) {
+                entries.put(className, scannedClass);
+            }
+        });
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new BufferedOutputStream(
+                            Files.newOutputStream(file.toPath())))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeObject(entries);
+            }
+        } catch (IOException e) {
+            getLogger().warn("Unable to write the class scan cache {}", file,
+                    e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ScannedClass> read(File file) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() == FORMAT_VERSION) {
+                return (Map<String, ScannedClass>) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException e) { // NOSONAR
+            getLogger().debug(
+                    "Ignoring unreadable class scan cache {}, all classes are scanned",
+                    file, e);
+        }
+        return new HashMap<>();
+    }
+
+    private static String getFingerprint(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                File classFile = new File(url.toURI());
+                return classFile.length() + ":" + classFile.lastModified();
+            } catch (URISyntaxException | IllegalArgumentException e) { // NOSONAR
+                return null;
+            }
+        }
+        URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+            if (entry != null && entry.getCrc() != -1) {
+                return Long.toHexString(entry.getCrc()) + ":"
+                        + entry.getSize();
+            }
+        }
+        return null;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(ClassScanCache.class);
+    }
+}
@@ -15,12 +15,15 @@
  */
 package com.vaadin.flow.server.frontend.scanner;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -28,9 +31,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import net.bytebuddy.jar.asm.ClassReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +65,8 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     private AbstractTheme themeInstance;
     private final HashMap<String, String> packages = new HashMap<>();
     private final Set<String> visited = new HashSet<>();
+    private transient ClassScanCache scanCache;
+    private int reusedClassCount;
 
     /**
      * Default Constructor.
@@ -87,10 +92,31 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
      */
     public FrontendDependencies(ClassFinder finder,
             boolean generateEmbeddableWebComponents) {
+        this(finder, generateEmbeddableWebComponents, null);
+    }
+
+    /**
+     * Creates a scanner which reuses the results of a previous scan stored in
+     * the given file for the class files that have not changed since, and
+     * stores the results of this scan in the file.
+     *
+     * @param finder
+     *            the class finder
+     * @param generateEmbeddableWebComponents
+     *            {@code true} checks the
+     *            {@link com.vaadin.flow.component.WebComponentExporter} classes
+     *            for dependencies
+     * @param scanCacheFile
+     *            the file to read and store the scan results, or {@code null}
+     *            to scan all classes without storing the results
+     */
+    public FrontendDependencies(ClassFinder finder,
+            boolean generateEmbeddableWebComponents, File scanCacheFile) {
         super(finder);
         log().info(
                 "Scanning classes to find frontend configurations and dependencies...");
         long start = System.nanoTime();
+        scanCache = new ClassScanCache(scanCacheFile);
         try {
             computeEndpoints();
             if (generateEmbeddableWebComponents) {
@@ -99,15 +125,31 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
             }
             computeApplicationTheme();
             computePackages();
+            scanCache.store();
+            reusedClassCount = scanCache.getReusedCount();
             long ms = (System.nanoTime() - start) / 1000000;
-            log().info("Visited {} classes. Took {} ms.", visited.size(), ms);
+            log().info(
+                    "Visited {} classes ({} unchanged since the previous scan). Took {} ms.",
+                    visited.size(), reusedClassCount, ms);
         } catch (ClassNotFoundException | InstantiationException
                 | IllegalAccessException | IOException e) {
             throw new IllegalStateException(
                     "Unable to compute frontend dependencies", e);
+        } finally {
+            scanCache = null;
         }
     }
 
+    /**
+     * Gets the number of classes that were not read because the results of the
+     * previous scan stored in the scan cache file were up to date.
+     *
+     * @return the number of reused classes
+     */
+    int getReusedClassCount() {
+        return reusedClassCount;
+    }
+
     /**
      * Get all npm packages the application depends on.
      *
@@ -221,24 +263,76 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
         // references loaded by the specific class finder loader
         Class<? extends Annotation> routeClass = getFinder()
                 .loadClass(Route.class.getName());
-        for (Class<?> route : getFinder().getAnnotatedClasses(routeClass)) {
-            collectEndpoints(route);
+        List<Class<?>> entries = new ArrayList<>(
+                getFinder().getAnnotatedClasses(routeClass));
+        entries.addAll(getFinder().getSubTypesOf(
+                getFinder().loadClass(UIInitListener.class.getName())));
+        entries.addAll(getFinder().getSubTypesOf(getFinder()
+                .loadClass(VaadinServiceInitListener.class.getName())));
+        entries.addAll(getFinder().getSubTypesOf(
+                getFinder().loadClass(HasErrorParameter.class.getName())));
+
+        scanReachableClasses(entries.stream().map(Class::getName)
+                .collect(Collectors.toSet()));
+
+        for (Class<?> entry : entries) {
+            collectEndpoints(entry);
         }
+    }
 
-        for (Class<?> initListener : getFinder().getSubTypesOf(
-                getFinder().loadClass(UIInitListener.class.getName()))) {
-            collectEndpoints(initListener);
+    /**
+     * Reads the class files of all classes reachable from the given classes in
+     * parallel, so that the sequential visit of the end-points that follows
+     * finds them in the scan cache. The classes are read level by level in a
+     * breadth-first order, following the same references as
+     * {@link #visitClass(String, EndPointData, boolean)} does.
+     *
+     * @param classNames
+     *            the names of the classes to start from
+     * @throws IOException
+     *             if a class file cannot be read
+     */
+    private void scanReachableClasses(Set<String> classNames)
+            throws IOException {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        Set<String> level = classNames;
+        try {
+            while (!level.isEmpty()) {
+                level = level.parallelStream()
+                        .filter(className -> isVisitable(className)
+                                && seen.add(className))
+                        .flatMap(className -> getReferencedClasses(className)
+                                .stream())
+                        .filter(className -> !seen.contains(className))
+                        .collect(Collectors.toSet());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+    }
 
-        for (Class<?> initListener : getFinder().getSubTypesOf(getFinder()
-                .loadClass(VaadinServiceInitListener.class.getName()))) {
-            collectEndpoints(initListener);
+    private Set<String> getReferencedClasses(String className) {
+        try {
+            ScannedClass scanned = scan(className);
+            if (scanned == null) {
+                return Collections.emptySet();
+            }
+            // The references found without an end-point are a superset of the
+            // ones found for any specific end-point
+            return scanned.accept(new FrontendClassVisitor(className,
+                    new EndPointData(Object.class), false)).getChildren();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        for (Class<?> errorParameters : getFinder().getSubTypesOf(
-                getFinder().loadClass(HasErrorParameter.class.getName()))) {
-            collectEndpoints(errorParameters);
+    private ScannedClass scan(String className) throws IOException {
+        ScannedClass scanned = scanCache.getScanned(className);
+        if (scanned != null) {
+            return scanned;
         }
+        URL url = getUrl(className);
+        return url == null ? null : scanCache.scan(className, url);
     }
 
     private void collectEndpoints(Class<?> entry) throws IOException {
@@ -456,15 +550,13 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
         }
         endPoint.getClasses().add(className);
 
-        URL url = getUrl(className);
-        if (url == null) {
+        ScannedClass scanned = scan(className);
+        if (scanned == null) {
             return endPoint;
         }
 
-        FrontendClassVisitor visitor = new FrontendClassVisitor(className,
-                endPoint, themeScope);
-        ClassReader cr = new ClassReader(url.openStream());
-        cr.accept(visitor, ClassReader.EXPAND_FRAMES);
+        FrontendClassVisitor visitor = scanned.accept(
+                new FrontendClassVisitor(className, endPoint, themeScope));
 
         // all classes visited by the scanner, used for performance (#5933)
         visited.add(className);
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.bytebuddy.jar.asm.AnnotationVisitor;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * The parts of a class file that are relevant for a
+ * {@link FrontendClassVisitor}: the classes referenced by the class
+ * declaration, fields and method bodies, and the class level annotations.
+ * <p>
+ * Reading a class file is the expensive part of the dependency scanning.
+ * Instances are therefore created once per class and replayed to a visitor for
+ * every end-point that needs it. They are serializable so that they can be
+ * reused across builds by {@link ClassScanCache}.
+ *
+ * @since
+ */
+final class ScannedClass implements Serializable {
+
+    private final String fingerprint;
+    private final Set<String> references = new HashSet<>();
+    private final List<AnnotationEvent> annotations = new ArrayList<>();
+
+    private ScannedClass(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Reads the given class file.
+     *
+     * @param className
+     *            the name of the class
+     * @param fingerprint
+     *            a fingerprint of the class file, or <code>null</code> if not
+     *            available
+     * @param classFile
+     *            the stream to read the class file from
+     * @return the scanned class
+     * @throws IOException
+     *             if the class file cannot be read
+     */
+    static ScannedClass read(String className, String fingerprint,
+            InputStream classFile) throws IOException {
+        ScannedClass scanned = new ScannedClass(fingerprint);
+        new ClassReader(classFile).accept(scanned.new Recorder(className),
+                ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
+        return scanned;
+    }
+
+    /**
+     * Gets the fingerprint of the class file this instance was read from.
+     *
+     * @return the fingerprint, or <code>null</code> if not available
+     */
+    String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Replays the class to the given visitor in the same way as if the class
+     * file had been read using a {@link ClassReader}.
+     *
+     * @param visitor
+     *            the visitor to update
+     * @return the visitor, for chaining
+     */
+    FrontendClassVisitor accept(FrontendClassVisitor visitor) {
+        visitor.getChildren().addAll(references);
+        for (AnnotationEvent annotation : annotations) {
+            annotation.replay(visitor.visitAnnotation(annotation.descriptor,
+                    annotation.visible));
+        }
+        return visitor;
+    }
+
+    /**
+     * A recorded annotation visitor call.
+     */
+    private static final class AnnotationEvent implements Serializable {
+        private static final int VALUE = 0;
+        private static final int ENUM = 1;
+        private static final int ARRAY = 2;
+        private static final int ANNOTATION = 3;
+
+        private final int kind;
+        private final String name;
+        private final String descriptor;
+        private final boolean visible;
+        private final Serializable value;
+        private final List<AnnotationEvent> children = new ArrayList<>();
+
+        private AnnotationEvent(int kind, String name, String descriptor,
+                boolean visible, Object value) {
+            this.kind = kind;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.visible = visible;
+            // Type is the only non serializable annotation value
+            this.value = value instanceof Type ? new TypeValue((Type) value)
+                    : (Serializable) value;
+        }
+
+        private void replay(AnnotationVisitor visitor) {
+            if (visitor == null) {
+                return;
+            }
+            for (AnnotationEvent child : children) {
+                switch (child.kind) {
+                case VALUE:
+                    visitor.visit(child.name,
+                            child.value instanceof TypeValue
+                                    ? ((TypeValue) child.value).getType()
+                                    : child.value);
+                    break;
+                case ENUM:
+                    visitor.visitEnum(child.name, child.descriptor,
+                            (String) child.value);
+                    break;
+                case ARRAY:
+                    child.replay(visitor.visitArray(child.name));
+                    break;
+                default:
+                    child.replay(visitor.visitAnnotation(child.name,
+                            child.descriptor));
+                    break;
+                }
+            }
+            visitor.visitEnd();
+        }
+
+        private AnnotationVisitor recorder() {
+            return new AnnotationVisitor(Opcodes.ASM7) {
+                @Override
+                public void visit(String name, Object value) {
+                    children.add(new AnnotationEvent(VALUE, name, null, true,
+                            value));
+                }
+
+                @Override
+                public void visitEnum(String name, String descriptor,
+                        String value) {
+                    children.add(new AnnotationEvent(ENUM, name, descriptor,
+                            true, value));
+                }
+
+                @Override
+                public AnnotationVisitor visitArray(String name) {
+                    AnnotationEvent array = new AnnotationEvent(ARRAY, name,
+                            null, true, null);
+                    children.add(array);
+                    return array.recorder();
+                }
+
+                @Override
+                public AnnotationVisitor visitAnnotation(String name,
+                        String descriptor) {
+                    AnnotationEvent annotation = new AnnotationEvent(
+                            ANNOTATION, name, descriptor, true, null);
+                    children.add(annotation);
+                    return annotation.recorder();
+                }
+            };
+        }
+    }
+
+    private static final class TypeValue implements Serializable {
+        private final String descriptor;
+
+        private TypeValue(Type type) {
+            descriptor = type.getDescriptor();
+        }
+
+        private Type getType() {
+            return Type.getType(descriptor);
+        }
+    }
+
+    /**
+     * Records the class level annotations and lets a
+     * {@link FrontendClassVisitor} collect the references from everything
+     * else. The visitor is not associated with a real end-point, so the
+     * annotations cannot be passed to it.
+     */
+    private final class Recorder extends ClassVisitor {
+
+        private Recorder(String className) {
+            super(Opcodes.ASM7, new FrontendClassVisitor(className,
+                    new EndPointData(Object.class), false));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor,
+                boolean visible) {
+            AnnotationEvent annotation = new AnnotationEvent(
+                    AnnotationEvent.ANNOTATION, null, descriptor, visible,
+                    null);
+            annotations.add(annotation);
+            return annotation.recorder();
+        }
+
+        @Override
+        public void visitEnd() {
+            references.addAll(((FrontendClassVisitor) cv).getChildren());
+        }
+    }
+}
@@ -361,6 +361,8 @@ public class DevModeInitializer
         JsonObject tokenFileData = Json.createObject();
         NodeTasks tasks = builder.enablePackagesUpdate(true)
                 .useByteCodeScanner(useByteCodeScanner)
+                .withScanCacheFile(new File(baseDir,
+                        FrontendUtils.DEFAULT_SCAN_CACHE_FILE))
                 .withFlowResourcesFolder(flowResourcesFolder)
                 .copyResources(frontendLocations)
                 .copyLocalResources(new File(baseDir,
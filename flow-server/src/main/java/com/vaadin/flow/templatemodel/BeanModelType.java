@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -80,6 +81,12 @@ public class BeanModelType<T> implements ComplexModelType<T> {
     private final HashMap<String, BeanModelTypeProperty> properties;
     private final Class<T> proxyType;
 
+    /*
+     * Proxy methods resolved by TemplateModelProxyHandler. Transient since
+     * methods are not serializable, recreated lazily after deserialization.
+     */
+    private transient volatile Map<Method, TemplateModelProxyHandler.ProxyMethod> proxyMethods;
+
     private static final ReflectionCache<Object, Map<String, Method>> beanPropertyCache = new ReflectionCache<>(
             BeanModelType::findBeanGetters);
 
@@ -315,6 +322,22 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         return properties.containsKey(propertyName);
     }
 
+    /**
+     * Gets the cache of proxy methods resolved for this model type.
+     *
+     * @return the proxy method cache, not <code>null</code>
+     */
+    Map<Method, TemplateModelProxyHandler.ProxyMethod> getProxyMethods() {
+        Map<Method, TemplateModelProxyHandler.ProxyMethod> methods = proxyMethods;
+        if (methods == null) {
+            // A concurrent initialization only causes some methods to be
+            // resolved again
+            methods = new ConcurrentHashMap<>();
+            proxyMethods = methods;
+        }
+        return methods;
+    }
+
     /**
      * Gets the type of the property with the given name.
      *
@@ -16,7 +16,10 @@
 package com.vaadin.flow.templatemodel;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -114,6 +117,22 @@ public class TemplateModelProxyHandler implements Serializable {
         }
     }
 
+    /**
+     * A proxy method resolved to the model property it reads or writes.
+     */
+    static final class ProxyMethod {
+        private final String propertyName;
+        private final ModelType propertyType;
+        private final boolean getter;
+
+        private ProxyMethod(String propertyName, ModelType propertyType,
+                boolean getter) {
+            this.propertyName = propertyName;
+            this.propertyType = propertyType;
+            this.getter = getter;
+        }
+    }
+
     private static final ReflectionCache<Object, BiFunction<StateNode, BeanModelType<?>, Object>> proxyConstructors = new ReflectionCache<>(
             TemplateModelProxyHandler::createProxyConstructor);
 
@@ -144,10 +163,32 @@ public class TemplateModelProxyHandler implements Serializable {
     @SuppressWarnings("static-method")
     public Object intercept(@This Object target, @Origin Method method,
             @AllArguments Object[] args) {
-        String propertyName = ReflectTools.getPropertyName(method);
-
         BeanModelType<?> modelType = getModelTypeForProxy(target);
 
+        Map<Method, ProxyMethod> proxyMethods = modelType.getProxyMethods();
+        ProxyMethod proxyMethod = proxyMethods.get(method);
+        if (proxyMethod == null) {
+            proxyMethod = resolveProxyMethod(modelType, method, args);
+            proxyMethods.put(method, proxyMethod);
+        }
+
+        ElementPropertyMap modelMap = ElementPropertyMap
+                .getModel(getStateNodeForProxy(target));
+
+        if (proxyMethod.getter) {
+            return handleGetter(modelMap, proxyMethod.propertyName,
+                    proxyMethod.propertyType);
+        } else {
+            handleSetter(modelMap, proxyMethod.propertyName,
+                    proxyMethod.propertyType, args[0]);
+            return null;
+        }
+    }
+
+    private static ProxyMethod resolveProxyMethod(BeanModelType<?> modelType,
+            Method method, Object[] args) {
+        String propertyName = ReflectTools.getPropertyName(method);
+
         if (!modelType.hasProperty(propertyName)) {
             throw new InvalidTemplateModelException(
                     modelType.getProxyType().getName()
@@ -156,15 +197,11 @@ public class TemplateModelProxyHandler implements Serializable {
         }
 
         ModelType propertyType = modelType.getPropertyType(propertyName);
-        ElementPropertyMap modelMap = ElementPropertyMap
-                .getModel(getStateNodeForProxy(target));
 
         if (ReflectTools.isGetter(method)) {
-            return handleGetter(modelMap, propertyName, propertyType);
+            return new ProxyMethod(propertyName, propertyType, true);
         } else if (ReflectTools.isSetter(method)) {
-            Object value = args[0];
-            handleSetter(modelMap, propertyName, propertyType, value);
-            return null;
+            return new ProxyMethod(propertyName, propertyType, false);
         }
 
         throw new InvalidTemplateModelException(
@@ -196,8 +233,35 @@ public class TemplateModelProxyHandler implements Serializable {
         return proxyType.cast(proxy);
     }
 
+    /**
+     * Generates the proxy classes for the given model type and for all bean
+     * types used by its properties, unless already generated. This can be
+     * used for moving the cost of generating the classes from the first use
+     * of a model to e.g. application startup.
+     *
+     * @param modelType
+     *            the model type to generate proxy classes for, not
+     *            <code>null</code>
+     */
+    public static void preloadProxyTypes(BeanModelType<?> modelType) {
+        assert modelType != null;
+
+        proxyConstructors.get(modelType.getProxyType());
+        modelType.getPropertyNames().map(modelType::getPropertyType)
+                .forEach(TemplateModelProxyHandler::preloadProxyTypes);
+    }
+
+    private static void preloadProxyTypes(ModelType type) {
+        if (type instanceof BeanModelType<?>) {
+            preloadProxyTypes((BeanModelType<?>) type);
+        } else if (type instanceof ListModelType<?>) {
+            preloadProxyTypes(((ListModelType<?>) type).getItemType());
+        }
+    }
+
     private static BiFunction<StateNode, BeanModelType<?>, Object> createProxyConstructor(
             Class<?> type) {
+        ReflectTools.checkClassAccessibility(type);
         if (type.isInterface()) {
             return createInterfaceConstructor(type);
         } else {
@@ -247,8 +311,10 @@ public class TemplateModelProxyHandler implements Serializable {
                 .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
                 .getLoaded();
 
+        Constructor<?> constructor = findNoArgConstructor(proxyType);
+
         return (node, modelType) -> {
-            Object instance = ReflectTools.createProxyInstance(proxyType,
+            Object instance = createProxyInstance(constructor, proxyType,
                     modelType.getProxyType());
             ModelProxy modelProxy = (ModelProxy) instance;
             modelProxy.$stateNode(node);
@@ -259,6 +325,38 @@ public class TemplateModelProxyHandler implements Serializable {
         };
     }
 
+    private static Constructor<?> findNoArgConstructor(Class<?> proxyType) {
+        try {
+            return proxyType.getConstructor();
+        } catch (NoSuchMethodException e) { // NOSONAR
+            return null;
+        }
+    }
+
+    private static Object createProxyInstance(Constructor<?> constructor,
+            Class<?> proxyType, Class<?> modelType) {
+        if (constructor != null) {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) { // NOSONAR
+                // Fall through to get a descriptive error
+            } catch (InvocationTargetException e) {
+                // Not falling through since that would run the constructor
+                // again
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalArgumentException(String.format(
+                        "Unable to create an instance of '%s'. The constructor threw an exception.",
+                        modelType.getName()), e);
+            }
+        }
+        return ReflectTools.createProxyInstance(proxyType, modelType);
+    }
+
     private static String generateProxyClassName(String classFqn,
             ClassLoader classLoader) {
         StringBuilder fqnBuilder = new StringBuilder(classFqn);
@@ -171,6 +171,46 @@ public class ComponentEventBusTest {
         Assert.assertNull(eventListener.getEvent().getObjectBoolean());
     }
 
+    @Test
+    public void mappedDomEvent_multipleListeners_eachGetsOwnEventWithData() {
+        TestComponent c = new TestComponent();
+        EventTracker<MappedToDomEvent> listener1 = new EventTracker<>();
+        EventTracker<MappedToDomEvent> listener2 = new EventTracker<>();
+        c.addListener(MappedToDomEvent.class, listener1);
+        c.addListener(MappedToDomEvent.class, listener2);
+
+        fireDomEvent(c, "dom-event", createData("event.someData", 1));
+        Assert.assertNotSame(listener1.getEvent(), listener2.getEvent());
+        Assert.assertEquals(1, listener1.getEvent().getSomeData());
+        Assert.assertEquals(1, listener2.getEvent().getSomeData());
+
+        fireDomEvent(c, "dom-event", createData("event.someData", 2));
+        Assert.assertEquals(2, listener1.getEvent().getSomeData());
+        Assert.assertEquals(2, listener2.getEvent().getSomeData());
+    }
+
+    @Test
+    public void mappedDomEvent_fireManyEvents_performance() {
+        TestComponent c = new TestComponent();
+        AtomicInteger dataSum = new AtomicInteger();
+        c.addListener(MappedToDomEvent.class,
+                e -> dataSum.addAndGet(e.getSomeData()));
+        c.addListener(MappedToDomEvent.class,
+                e -> dataSum.addAndGet(e.getSomeData()));
+        JsonObject eventData = createData("event.someData", 1,
+                "event.moreData", 2);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10000; i++) {
+            fireDomEvent(c, "dom-event", eventData);
+        }
+        long time = System.currentTimeMillis() - start;
+
+        Assert.assertEquals(20000, dataSum.get());
+        Assert.assertTrue("Firing 10K DOM events to two listeners took "
+                + time + "ms", time < 5000);
+    }
+
     private JsonObject createData(String key, Object value) {
         JsonObject data = Json.createObject();
         data.put(key, JsonCodec.encodeWithoutTypeInfo(value));
@@ -33,6 +33,7 @@ import com.vaadin.flow.component.page.PendingJavaScriptResult;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.internal.NullOwner;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.change.ListAddChange;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
 import com.vaadin.flow.internal.nodefeature.ElementAttributeMap;
 import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
@@ -1726,6 +1727,66 @@ public class ElementTest extends AbstractNodeTest {
                 EasyMock.createMock(StreamResource.class));
     }
 
+    @Test
+    public void appendChildren_attachedParent_singleAddChangeAndAttachAfterAllAdded() {
+        Element body = new UI().getElement();
+        body.getNode().collectChanges(change -> {
+        });
+        List<Element> children = new ArrayList<>();
+        List<Integer> childCountOnAttach = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Element child = ElementFactory.createDiv();
+            child.addAttachListener(
+                    event -> childCountOnAttach.add(body.getChildCount()));
+            children.add(child);
+        }
+
+        body.appendChildren(children);
+
+        Assert.assertEquals(children,
+                body.getChildren().collect(Collectors.toList()));
+        Assert.assertEquals(Collections.nCopies(5, 5), childCountOnAttach);
+        List<ListAddChange<?>> addChanges = new ArrayList<>();
+        body.getNode().collectChanges(change -> {
+            if (change instanceof ListAddChange<?>) {
+                addChanges.add((ListAddChange<?>) change);
+            }
+        });
+        Assert.assertEquals(1, addChanges.size());
+        Assert.assertEquals(5, addChanges.get(0).getNewItems().size());
+    }
+
+    @Test
+    public void appendChildren_childWithParent_movedLikeAppendChild() {
+        Element parent = ElementFactory.createDiv();
+        Element other = ElementFactory.createDiv();
+        Element first = ElementFactory.createSpan();
+        Element second = ElementFactory.createSpan();
+        parent.appendChild(first);
+        other.appendChild(second);
+
+        parent.appendChildren(Arrays.asList(second, first));
+
+        Assert.assertEquals(Arrays.asList(second, first),
+                parent.getChildren().collect(Collectors.toList()));
+        Assert.assertEquals(0, other.getChildCount());
+    }
+
+    @Test
+    public void setChildren_replacesChildren() {
+        Element parent = ElementFactory.createDiv();
+        Element old = ElementFactory.createSpan();
+        Element kept = ElementFactory.createSpan();
+        Element added = ElementFactory.createSpan();
+        parent.appendChild(old, kept);
+
+        parent.setChildren(Arrays.asList(added, kept));
+
+        Assert.assertEquals(Arrays.asList(added, kept),
+                parent.getChildren().collect(Collectors.toList()));
+        Assert.assertNull(old.getParent());
+    }
+
     @Test
     public void testAttachListener_parentAttach_childListenersTriggered() {
         Element body = new UI().getElement();
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.shared.JsonConstants;
+import com.vaadin.tests.util.MockUI;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class VirtualizedChildrenTest {
+
+    private Element container;
+    private List<Integer> created;
+    private VirtualizedChildren children;
+
+    @Before
+    public void setUp() {
+        container = ElementFactory.createDiv();
+        created = new ArrayList<>();
+        children = new VirtualizedChildren(container, 20, index -> {
+            created.add(index);
+            return ElementFactory.createDiv(String.valueOf(index));
+        });
+        children.setOverscan(5);
+    }
+
+    @Test
+    public void setItemCount_onlyVisibleRangeMaterialized() {
+        children.setViewport(0, 10);
+        children.setItemCount(20_000);
+
+        Assert.assertEquals(15, container.getChildCount());
+        Assert.assertEquals(15, created.size());
+        assertChildren(0, 15);
+        Assert.assertEquals("0px", container.getStyle().get("padding-top"));
+        Assert.assertEquals((20_000 - 15) * 20 + "px",
+                container.getStyle().get("padding-bottom"));
+    }
+
+    @Test
+    public void setViewport_overlappingRange_existingChildrenReused() {
+        children.setItemCount(1000);
+        children.setViewport(100, 10);
+        Element reused = container.getChild(10);
+        created.clear();
+
+        children.setViewport(105, 10);
+
+        assertChildren(100, 120);
+        Assert.assertEquals(5, created.size());
+        Assert.assertEquals(reused, container.getChild(5));
+        Assert.assertEquals(100 * 20 + "px",
+                container.getStyle().get("padding-top"));
+    }
+
+    @Test
+    public void scrollToIndex_itemsMaterializedAndClientScrolled() {
+        MockUI ui = new MockUI();
+        ui.getElement().appendChild(container);
+        children.setItemCount(1000);
+        children.setViewport(0, 10);
+
+        children.scrollToIndex(100);
+
+        assertChildren(95, 115);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJsInvocations();
+        Assert.assertEquals(1, invocations.size());
+        Assert.assertEquals(2000.0, invocations.get(0).getInvocation()
+                .getParameters().get(0));
+    }
+
+    @Test
+    public void setViewport_scrollBackwards_childrenPrepended() {
+        children.setItemCount(1000);
+        children.setViewport(100, 10);
+        created.clear();
+
+        children.setViewport(90, 10);
+
+        assertChildren(85, 105);
+        Assert.assertEquals(10, created.size());
+    }
+
+    @Test
+    public void setItemCount_shrinks_childrenBeyondCountRemoved() {
+        children.setItemCount(1000);
+        children.setViewport(0, 10);
+
+        children.setItemCount(8);
+
+        assertChildren(0, 8);
+        Assert.assertEquals("0px", container.getStyle().get("padding-bottom"));
+    }
+
+    @Test
+    public void scrollEvent_viewportUpdated() {
+        children.setItemCount(1000);
+        children.setViewport(0, 10);
+
+        fireScroll(4000, 200);
+
+        Assert.assertEquals(195, children.getMaterializedStart());
+        Assert.assertEquals(21, children.getMaterializedCount());
+    }
+
+    @Test
+    public void scrollEvent_hugeClientHeight_visibleCountLimited() {
+        children.setItemCount(1_000_000);
+        children.setViewport(0, 10);
+
+        fireScroll(0, 1e12);
+
+        Assert.assertEquals(0, children.getMaterializedStart());
+        Assert.assertTrue(children.getMaterializedCount() <= 1000);
+    }
+
+    @Test
+    public void scrollEvent_outOfRangeScrollTop_clamped() {
+        children.setItemCount(1000);
+        children.setViewport(0, 10);
+
+        fireScroll(1e15, 200);
+        assertChildren(995, 1000);
+
+        fireScroll(-4000, 200);
+        assertChildren(0, 16);
+    }
+
+    private void fireScroll(double scrollTop, double clientHeight) {
+        JsonObject eventData = Json.createObject();
+        eventData.put("element.scrollTop", scrollTop);
+        eventData.put("element.clientHeight", clientHeight);
+        eventData.put(JsonConstants.EVENT_DATA_PHASE,
+                DebouncePhase.TRAILING.getIdentifier());
+        container.getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container, "scroll", eventData));
+    }
+
+    @Test
+    public void refresh_allChildrenRecreated() {
+        children.setItemCount(100);
+        children.setViewport(0, 10);
+        created.clear();
+
+        children.refresh();
+
+        assertChildren(0, 15);
+        Assert.assertEquals(15, created.size());
+    }
+
+    private void assertChildren(int from, int to) {
+        List<String> expected = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            expected.add(String.valueOf(i));
+        }
+        Assert.assertEquals(expected, container.getChildren()
+                .map(Element::getText).collect(Collectors.toList()));
+    }
+}
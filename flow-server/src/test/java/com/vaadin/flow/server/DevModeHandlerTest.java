@@ -306,6 +306,31 @@ public class DevModeHandlerTest {
         devModeHandler.serveDevModeRequest(request, null);
     }
 
+    @Test
+    public void webpack_hashedChunk_servedFromMemoryOnceFetched()
+            throws Exception {
+        HttpServletRequest request = prepareRequest(
+                "/VAADIN/build/vaadin-bundle-0123456789abcdef.cache.js");
+        HttpServletResponse response = prepareResponse();
+        int port = prepareHttpServer(0, HTTP_OK, "bar");
+
+        DevModeHandler devModeHandler = DevModeHandler.start(port,
+                configuration, npmFolder,
+                CompletableFuture.completedFuture(null));
+        devModeHandler.join();
+        assertTrue(devModeHandler.serveDevModeRequest(request, response));
+
+        httpServer.stop(0);
+        ServletOutputStream output = response.getOutputStream();
+        Mockito.reset(output);
+        assertTrue(devModeHandler.serveDevModeRequest(request, response));
+        Mockito.verify(output).write("bar".getBytes());
+
+        exception.expect(ConnectException.class);
+        devModeHandler.serveDevModeRequest(prepareRequest("/VAADIN/foo.js"),
+                response);
+    }
+
     @Test
     public void vaadinServlet_forDifferentRequests_shouldHaveCorrectResponse()
             throws Exception {
@@ -384,6 +409,28 @@ public class DevModeHandlerTest {
         }
     }
 
+    @Test
+    public void getKeepAliveConnections_followsHttpMaxConnections() {
+        String maxConnections = "http.maxConnections";
+        String original = System.getProperty(maxConnections);
+        try {
+            System.clearProperty(maxConnections);
+            assertEquals(5, DevModeHandler.getKeepAliveConnections());
+
+            System.setProperty(maxConnections, "20");
+            assertEquals(20, DevModeHandler.getKeepAliveConnections());
+
+            System.setProperty(maxConnections, "0");
+            assertEquals(5, DevModeHandler.getKeepAliveConnections());
+        } finally {
+            if (original == null) {
+                System.clearProperty(maxConnections);
+            } else {
+                System.setProperty(maxConnections, original);
+            }
+        }
+    }
+
     @Test(expected = CustomRuntimeException.class)
     public void startDevModeHandler_prepareTasksThrows_handleThrows()
             throws IOException {
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.Uses;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+public class MetadataWarmUpTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Tag("used-by-annotation")
+    public static class UsedByAnnotation extends Component {
+    }
+
+    @Tag("used-by-field")
+    public static class UsedByField extends Component {
+    }
+
+    @Tag("div")
+    @Uses(UsedByAnnotation.class)
+    public static class View extends Component {
+        private UsedByField field;
+    }
+
+    @Tag("div")
+    public static class OtherView extends Component {
+    }
+
+    @Test
+    public void collectComponentClasses_routesAndUsedComponentsFound() {
+        MockVaadinServletService service = createService(
+                new MockDeploymentConfiguration());
+
+        Set<Class<? extends Component>> classes = new MetadataWarmUp(service)
+                .collectComponentClasses();
+
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(View.class,
+                        UsedByAnnotation.class, UsedByField.class)),
+                classes);
+    }
+
+    @Test
+    public void warmUp_noFailures() {
+        MockVaadinServletService service = createService(
+                new MockDeploymentConfiguration());
+        MetadataWarmUp warmUp = new MetadataWarmUp(service);
+
+        Assert.assertEquals(0, warmUp.warmUp(warmUp.collectComponentClasses()));
+    }
+
+    @Test
+    public void run_snapshotConfigured_snapshotWrittenAndUsed()
+            throws Exception {
+        File snapshot = new File(temporaryFolder.getRoot(), "warm-up.txt");
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_METADATA_WARM_UP_SNAPSHOT,
+                snapshot.getAbsolutePath());
+        MockVaadinServletService service = createService(configuration);
+
+        Assert.assertEquals(3, new MetadataWarmUp(service).run());
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        Assert.assertTrue(lines.contains(UsedByField.class.getName()));
+
+        Files.write(snapshot.toPath(),
+                Arrays.asList(lines.get(0), OtherView.class.getName()),
+                StandardCharsets.UTF_8);
+        Assert.assertEquals(1, new MetadataWarmUp(service).run());
+    }
+
+    @Test
+    public void run_routesChangedAfterSnapshot_classesScannedAgain()
+            throws Exception {
+        File snapshot = new File(temporaryFolder.getRoot(), "warm-up.txt");
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_METADATA_WARM_UP_SNAPSHOT,
+                snapshot.getAbsolutePath());
+        MockVaadinServletService service = createService(configuration);
+        Assert.assertEquals(3, new MetadataWarmUp(service).run());
+
+        service.getRouteRegistry().setRoute("other", OtherView.class,
+                Collections.emptyList());
+
+        Assert.assertEquals(4, new MetadataWarmUp(service).run());
+        Assert.assertTrue(Files.readAllLines(snapshot.toPath())
+                .contains(OtherView.class.getName()));
+    }
+
+    @Test
+    public void warmUp_serviceIsCurrentInstanceInEveryThread() {
+        MockVaadinServletService service = createService(
+                new MockDeploymentConfiguration());
+        Set<Object> currentServices = ConcurrentHashMap.newKeySet();
+        MetadataWarmUp warmUp = new MetadataWarmUp(service) {
+            @Override
+            void warmUp(Class<? extends Component> type) {
+                currentServices.add(Optional
+                        .ofNullable((Object) VaadinService.getCurrent())
+                        .orElse("none"));
+            }
+        };
+        List<Class<? extends Component>> classes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            classes.add(View.class);
+        }
+
+        VaadinService callerService = VaadinService.getCurrent();
+
+        Assert.assertEquals(0, warmUp.warmUp(classes));
+
+        Assert.assertEquals(Collections.singleton(service), currentServices);
+        Assert.assertSame(callerService, VaadinService.getCurrent());
+    }
+
+    private static MockVaadinServletService createService(
+            MockDeploymentConfiguration configuration) {
+        MockVaadinServletService service = new MockVaadinServletService(
+                configuration);
+        service.init();
+        service.getRouteRegistry().setRoute("view", View.class,
+                Collections.emptyList());
+        return service;
+    }
+}
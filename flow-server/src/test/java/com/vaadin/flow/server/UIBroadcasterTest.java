@@ -0,0 +1,204 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+import com.vaadin.tests.util.MockUI;
+
+public class UIBroadcasterTest {
+
+    private final UIBroadcaster broadcaster = new UIBroadcaster(Runnable::run);
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void broadcast_allRegisteredUIsUpdated() throws Exception {
+        MockVaadinSession session = createSession();
+        UI first = createRegisteredUI(session);
+        UI second = createRegisteredUI(session);
+        UI other = createRegisteredUI(createSession());
+
+        List<UI> updated = new ArrayList<>();
+        broadcaster.broadcast(ui -> {
+            Assert.assertSame(ui, UI.getCurrent());
+            Assert.assertTrue(ui.getSession().hasLock());
+            updated.add(ui);
+        }).get(1, TimeUnit.SECONDS);
+
+        Assert.assertEquals(3, broadcaster.getUICount());
+        Assert.assertEquals(3, updated.size());
+        Assert.assertTrue(updated.contains(first));
+        Assert.assertTrue(updated.contains(second));
+        Assert.assertTrue(updated.contains(other));
+    }
+
+    @Test
+    public void removeRegistration_uiNotUpdated() throws Exception {
+        MockVaadinSession session = createSession();
+        UI ui = createUI(session);
+        session.lock();
+        Registration registration;
+        try {
+            registration = broadcaster.register(ui);
+        } finally {
+            session.unlock();
+        }
+        registration.remove();
+
+        List<UI> updated = new ArrayList<>();
+        broadcaster.broadcast(updated::add).get(1, TimeUnit.SECONDS);
+
+        Assert.assertEquals(0, broadcaster.getUICount());
+        Assert.assertTrue(updated.isEmpty());
+    }
+
+    @Test
+    public void broadcast_sessionClosedBeforeDelivery_completesExceptionally() {
+        List<Runnable> tasks = new ArrayList<>();
+        UIBroadcaster queuingBroadcaster = new UIBroadcaster(tasks::add);
+        MockVaadinSession session = createSession();
+        UI ui = createUI(session);
+        session.lock();
+        try {
+            queuingBroadcaster.register(ui);
+        } finally {
+            session.unlock();
+        }
+
+        List<UI> updated = new ArrayList<>();
+        CompletableFuture<Void> delivery = queuingBroadcaster
+                .broadcast(updated::add);
+        Assert.assertFalse(delivery.isDone());
+
+        session.getService().fireSessionDestroy(session);
+        Assert.assertTrue(delivery.isCompletedExceptionally());
+
+        tasks.forEach(Runnable::run);
+        Assert.assertTrue(updated.isEmpty());
+
+        Assert.assertTrue(queuingBroadcaster.broadcast(updated::add)
+                .isDone());
+    }
+
+    @Test
+    public void broadcastJs_invocationAddedToAllUIs() throws Exception {
+        MockVaadinSession session = createSession();
+        UI first = createRegisteredUI(session);
+        UI second = createRegisteredUI(createSession());
+
+        broadcaster.broadcastJs("console.log($0, $1)", "foo", 1)
+                .get(1, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, first.getInternals()
+                .dumpPendingJavaScriptInvocations().size());
+        Assert.assertEquals(1, second.getInternals()
+                .dumpPendingJavaScriptInvocations().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void broadcastJs_uiSpecificParameter_throws() {
+        UI ui = createRegisteredUI(createSession());
+
+        broadcaster.broadcastJs("console.log($0)", ui);
+    }
+
+    @Test
+    public void close_serviceListenerRemovedAndUIsUnregistered() {
+        AtomicInteger listenerCount = new AtomicInteger();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            public Registration addSessionDestroyListener(
+                    SessionDestroyListener listener) {
+                Registration registration = super.addSessionDestroyListener(
+                        listener);
+                listenerCount.incrementAndGet();
+                return () -> {
+                    listenerCount.decrementAndGet();
+                    registration.remove();
+                };
+            }
+        };
+        service.init();
+        listenerCount.set(0);
+        MockVaadinSession session = createSession(service);
+        createRegisteredUI(session);
+        createRegisteredUI(session);
+        Assert.assertEquals(1, listenerCount.get());
+
+        broadcaster.close();
+
+        Assert.assertEquals(0, listenerCount.get());
+        Assert.assertEquals(0, broadcaster.getUICount());
+
+        createRegisteredUI(session);
+        Assert.assertEquals(1, listenerCount.get());
+        Assert.assertEquals(1, broadcaster.getUICount());
+    }
+
+    private UI createRegisteredUI(MockVaadinSession session) {
+        UI ui = createUI(session);
+        session.lock();
+        try {
+            broadcaster.register(ui);
+        } finally {
+            session.unlock();
+        }
+        return ui;
+    }
+
+    private static UI createUI(MockVaadinSession session) {
+        session.lock();
+        try {
+            return new MockUI(session);
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private static MockVaadinSession createSession() {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        return createSession(service);
+    }
+
+    private static MockVaadinSession createSession(
+            MockVaadinServletService service) {
+        MockVaadinSession session = new MockVaadinSession(service);
+        session.lock();
+        try {
+            session.setConfiguration(new MockDeploymentConfiguration());
+        } finally {
+            session.unlock();
+        }
+        return session;
+    }
+}
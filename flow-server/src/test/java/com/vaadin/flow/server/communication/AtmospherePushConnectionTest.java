@@ -19,13 +19,23 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.concurrent.Future;
 
 import org.atmosphere.cpr.AtmosphereResource;
+import org.atmosphere.cpr.AtmosphereResourceEvent;
+import org.atmosphere.cpr.AtmosphereResourceEventListener;
+import org.atmosphere.cpr.Broadcaster;
+import org.easymock.Capture;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.vaadin.flow.component.PushConfiguration;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.AtmospherePushConnection;
 import com.vaadin.flow.server.communication.AtmospherePushConnection.State;
 
@@ -55,4 +65,192 @@ public class AtmospherePushConnectionTest {
 
         Assert.assertEquals(State.DISCONNECTED, connection.getState());
     }
+
+    @Test
+    public void pushWithinCoalescingWindow_isDelayedUntilWindowEnds() {
+        UI ui = createUI(100, 0);
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+
+        Assert.assertEquals(90, connection.getPushDelay(10));
+        Assert.assertEquals(0, connection.getPushDelay(100));
+        Assert.assertEquals(1, connection.getCoalescedPushCount());
+        Assert.assertEquals(0, connection.getHeldBackPushCount());
+    }
+
+    @Test
+    public void tooManyPendingMessages_pushIsHeldBack() {
+        UI ui = createUI(0, 2);
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+
+        Future<Object> pending = EasyMock.createNiceMock(Future.class);
+        EasyMock.expect(pending.isDone()).andReturn(false).anyTimes();
+        Broadcaster broadcaster = EasyMock.createNiceMock(Broadcaster.class);
+        EasyMock.expect(broadcaster.broadcast(EasyMock.anyObject(),
+                EasyMock.anyObject(AtmosphereResource.class)))
+                .andReturn(pending).anyTimes();
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster()).andReturn(broadcaster)
+                .anyTimes();
+        EasyMock.replay(pending, broadcaster, resource);
+
+        connection.connect(resource);
+        connection.sendMessage("foo");
+        Assert.assertEquals(0, connection.getPushDelay(1000));
+
+        connection.sendMessage("bar");
+        Assert.assertEquals(2, connection.getPendingMessageCount());
+        Assert.assertEquals(6, connection.getPendingChars());
+        Assert.assertTrue(connection.getPushDelay(1000) > 0);
+        Assert.assertEquals(1, connection.getHeldBackPushCount());
+    }
+
+    @Test
+    public void disconnect_scheduledPushCancelled() {
+        VaadinSession session = createSession(new PushConnectionMetrics(), 0);
+        PushConfiguration configuration = EasyMock
+                .createNiceMock(PushConfiguration.class);
+        EasyMock.expect(configuration.getMaxPendingPushMessages()).andReturn(1)
+                .anyTimes();
+        UI ui = EasyMock.createNiceMock(UI.class);
+        EasyMock.expect(ui.getPushConfiguration()).andReturn(configuration)
+                .anyTimes();
+        EasyMock.expect(ui.getSession()).andReturn(session).anyTimes();
+
+        Future<Object> pending = EasyMock.createNiceMock(Future.class);
+        EasyMock.expect(pending.isDone()).andReturn(false).anyTimes();
+        Broadcaster broadcaster = EasyMock.createNiceMock(Broadcaster.class);
+        EasyMock.expect(broadcaster.broadcast(EasyMock.anyObject(),
+                EasyMock.anyObject(AtmosphereResource.class)))
+                .andReturn(pending).anyTimes();
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster()).andReturn(broadcaster)
+                .anyTimes();
+        EasyMock.replay(configuration, ui, pending, broadcaster, resource);
+
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+        connection.connect(resource);
+        connection.sendMessage("foo");
+
+        // Held back since one message is still pending
+        connection.push(true);
+        Assert.assertTrue(connection.isFlushScheduled());
+
+        connection.disconnect();
+        Assert.assertFalse(connection.isFlushScheduled());
+    }
+
+    @Test
+    public void tooManyPendingChars_connectionEvicted() throws Exception {
+        PushConnectionMetrics metrics = new PushConnectionMetrics();
+        UI ui = EasyMock.createNiceMock(UI.class);
+        EasyMock.expect(ui.getSession()).andReturn(createSession(metrics, 5))
+                .anyTimes();
+
+        Future<Object> pending = EasyMock.createNiceMock(Future.class);
+        EasyMock.expect(pending.isDone()).andReturn(false).anyTimes();
+        Broadcaster broadcaster = EasyMock.createNiceMock(Broadcaster.class);
+        EasyMock.expect(broadcaster.broadcast(EasyMock.anyObject(),
+                EasyMock.anyObject(AtmosphereResource.class)))
+                .andReturn(pending).anyTimes();
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster()).andReturn(broadcaster)
+                .anyTimes();
+        resource.close();
+        EasyMock.expectLastCall().once();
+        EasyMock.replay(ui, pending, broadcaster, resource);
+
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+        connection.connect(resource);
+        connection.sendMessage("foo");
+        Assert.assertEquals(State.CONNECTED, connection.getState());
+
+        connection.sendMessage("bar");
+        Assert.assertEquals(State.DISCONNECTED, connection.getState());
+        Assert.assertEquals(0, connection.getPendingChars());
+        Assert.assertEquals(1, metrics.getEvictedConnectionCount());
+        Assert.assertEquals(0, metrics.getActiveConnectionCount());
+        EasyMock.verify(resource);
+    }
+
+    @Test
+    public void messageWritten_latencyRecorded() {
+        PushConnectionMetrics metrics = new PushConnectionMetrics();
+        UI ui = EasyMock.createNiceMock(UI.class);
+        EasyMock.expect(ui.getSession()).andReturn(createSession(metrics, 0))
+                .anyTimes();
+
+        Future<Object> pending = EasyMock.createNiceMock(Future.class);
+        Broadcaster broadcaster = EasyMock.createNiceMock(Broadcaster.class);
+        EasyMock.expect(broadcaster.broadcast(EasyMock.anyObject(),
+                EasyMock.anyObject(AtmosphereResource.class)))
+                .andReturn(pending).anyTimes();
+        Capture<AtmosphereResourceEventListener> listener = EasyMock
+                .newCapture();
+        AtmosphereResource resource = EasyMock
+                .createNiceMock(AtmosphereResource.class);
+        EasyMock.expect(resource.getBroadcaster()).andReturn(broadcaster)
+                .anyTimes();
+        EasyMock.expect(resource.addEventListener(EasyMock.capture(listener)))
+                .andReturn(resource);
+        EasyMock.replay(ui, pending, broadcaster, resource);
+
+        AtmospherePushConnection connection = new AtmospherePushConnection(ui);
+        connection.connect(resource);
+        connection.sendMessage("foo");
+        Assert.assertEquals(0, totalCount(metrics.getSendLatencyHistogram()));
+
+        listener.getValue().onBroadcast(
+                EasyMock.createNiceMock(AtmosphereResourceEvent.class));
+        Assert.assertEquals(1, totalCount(metrics.getSendLatencyHistogram()));
+
+        // No message is waiting for this notification
+        listener.getValue().onBroadcast(
+                EasyMock.createNiceMock(AtmosphereResourceEvent.class));
+        Assert.assertEquals(1, totalCount(metrics.getSendLatencyHistogram()));
+    }
+
+    private static long totalCount(long[] histogram) {
+        long count = 0;
+        for (long bucket : histogram) {
+            count += bucket;
+        }
+        return count;
+    }
+
+    private static VaadinSession createSession(PushConnectionMetrics metrics,
+            int maxPendingChars) {
+        VaadinContext context = EasyMock.createNiceMock(VaadinContext.class);
+        EasyMock.expect(context.getAttribute(
+                EasyMock.eq(PushConnectionMetrics.class), EasyMock.anyObject()))
+                .andReturn(metrics).anyTimes();
+        VaadinService service = EasyMock.createNiceMock(VaadinService.class);
+        EasyMock.expect(service.getContext()).andReturn(context).anyTimes();
+        DeploymentConfiguration configuration = EasyMock
+                .createNiceMock(DeploymentConfiguration.class);
+        EasyMock.expect(configuration.getPushMaxPendingChars())
+                .andReturn(maxPendingChars).anyTimes();
+        VaadinSession session = EasyMock.createNiceMock(VaadinSession.class);
+        EasyMock.expect(session.getService()).andReturn(service).anyTimes();
+        EasyMock.expect(session.getConfiguration()).andReturn(configuration)
+                .anyTimes();
+        EasyMock.replay(context, service, configuration, session);
+        return session;
+    }
+
+    private static UI createUI(int coalescingWindow, int maxPendingMessages) {
+        PushConfiguration configuration = EasyMock
+                .createNiceMock(PushConfiguration.class);
+        EasyMock.expect(configuration.getPushCoalescingWindow())
+                .andReturn(coalescingWindow).anyTimes();
+        EasyMock.expect(configuration.getMaxPendingPushMessages())
+                .andReturn(maxPendingMessages).anyTimes();
+        UI ui = EasyMock.createNiceMock(UI.class);
+        EasyMock.expect(ui.getPushConfiguration()).andReturn(configuration)
+                .anyTimes();
+        EasyMock.replay(configuration, ui);
+        return ui;
+    }
 }
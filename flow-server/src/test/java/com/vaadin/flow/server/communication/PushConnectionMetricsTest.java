@@ -0,0 +1,57 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PushConnectionMetricsTest {
+
+    private final PushConnectionMetrics metrics = new PushConnectionMetrics();
+
+    @Test
+    public void openAndCloseConnections_activeCountUpdated() {
+        metrics.connectionOpened();
+        metrics.connectionOpened();
+        metrics.connectionClosed();
+
+        Assert.assertEquals(1, metrics.getActiveConnectionCount());
+    }
+
+    @Test
+    public void messageSent_countAndCharsUpdated() {
+        metrics.messageSent(10);
+        metrics.messageSent(32);
+
+        Assert.assertEquals(2, metrics.getSentMessageCount());
+        Assert.assertEquals(42, metrics.getSentChars());
+    }
+
+    @Test
+    public void messageDelivered_latencyRecordedInMatchingBucket() {
+        long[] bounds = PushConnectionMetrics.getSendLatencyBucketBounds();
+
+        metrics.messageDelivered(0);
+        metrics.messageDelivered(bounds[1]);
+        metrics.messageDelivered(bounds[bounds.length - 1] + 1);
+
+        long[] histogram = metrics.getSendLatencyHistogram();
+        Assert.assertEquals(bounds.length + 1, histogram.length);
+        Assert.assertEquals(1, histogram[0]);
+        Assert.assertEquals(1, histogram[1]);
+        Assert.assertEquals(1, histogram[bounds.length]);
+    }
+}
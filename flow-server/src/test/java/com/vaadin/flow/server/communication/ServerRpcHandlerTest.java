@@ -126,4 +126,50 @@ public class ServerRpcHandlerTest {
 
         handler.handleRpc(ui, Mockito.mock(Reader.class), request);
     }
+
+    @Test
+    public void handleRpc_pipelinedMessageArrivesFirst_processedAfterPreceding()
+            throws Exception {
+        Mockito.when(session.hasLock()).thenReturn(true);
+        DeploymentConfiguration configuration = service
+                .getDeploymentConfiguration();
+        Mockito.when(configuration.getMaxPipelinedRequests()).thenReturn(2);
+
+        ui = new UI();
+        ui.getInternals().setSession(session);
+
+        createHandler(1).handleRpc(ui, Mockito.mock(Reader.class), request);
+        Assert.assertEquals(-1,
+                ui.getInternals().getLastProcessedClientToServerId());
+
+        createHandler(0).handleRpc(ui, Mockito.mock(Reader.class), request);
+        Assert.assertEquals(1,
+                ui.getInternals().getLastProcessedClientToServerId());
+    }
+
+    @Test
+    public void handleRpc_messageBeyondPipeliningLimit_notQueued()
+            throws Exception {
+        Mockito.when(session.hasLock()).thenReturn(true);
+        DeploymentConfiguration configuration = service
+                .getDeploymentConfiguration();
+        Mockito.when(configuration.getMaxPipelinedRequests()).thenReturn(2);
+
+        ui = new UI();
+        ui.getInternals().setSession(session);
+
+        thrown.expect(UnsupportedOperationException.class);
+        createHandler(2).handleRpc(ui, Mockito.mock(Reader.class), request);
+    }
+
+    private static ServerRpcHandler createHandler(int clientToServerId) {
+        return new ServerRpcHandler() {
+            @Override
+            protected String getMessage(Reader reader) throws IOException {
+                return "{\"" + ApplicationConstants.CLIENT_TO_SERVER_ID
+                        + "\":" + clientToServerId + ", \""
+                        + ApplicationConstants.RPC_INVOCATIONS + "\":[]}";
+            }
+        };
+    }
 }
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -273,6 +274,24 @@ public class StreamReceiverHandlerTest {
         Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
     }
 
+    @Test
+    public void doHandleXhrFilePost_contentLargerThanBuffer_allDataWritten()
+            throws IOException {
+        char[] chars = new char[200 * 1024];
+        Arrays.fill(chars, 'a');
+        String content = new String(chars);
+        inputStream = createInputStream(content);
+        outputStream = new ByteArrayOutputStream();
+        contentLength = String.valueOf(content.length());
+
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, content.length());
+
+        Assert.assertEquals(content, new String(
+                ((ByteArrayOutputStream) outputStream).toByteArray()));
+        Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
+    }
+
     @Test
     public void doHandleMultipartFileUpload_noPart_uploadFailed_responseStatusIs500()
             throws IOException {
@@ -18,15 +18,20 @@ package com.vaadin.flow.server.communication;
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.InputStreamFactory;
 import com.vaadin.flow.server.MockServletConfig;
 import com.vaadin.flow.server.MockVaadinSession;
@@ -37,9 +42,33 @@ import com.vaadin.flow.server.VaadinServlet;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinServletResponse;
 import com.vaadin.tests.util.AlwaysLockedVaadinSession;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
 
 public class StreamResourceHandlerTest {
 
+    private static class CapturingServletOutputStream
+            extends ServletOutputStream {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) throws IOException {
+            baos.write(b);
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        public byte[] getOutput() {
+            return baos.toByteArray();
+        }
+    }
+
     private StreamResourceHandler handler = new StreamResourceHandler();
     private MockVaadinSession session;
     private VaadinServletRequest request;
@@ -110,4 +139,46 @@ public class StreamResourceHandlerTest {
         Mockito.verify(response)
                 .setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
     }
+
+    @Test
+    public void writeResource_bytesAndDownloadsCounted() throws IOException {
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+        StreamResource res = new StreamResource("readme.md",
+                () -> new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, out.getOutput());
+        Assert.assertEquals(3, handler.getBytesWritten());
+        Assert.assertEquals(1, handler.getCompletedDownloadCount());
+        Assert.assertEquals(0, handler.getActiveDownloadCount());
+    }
+
+    @Test
+    public void maxConcurrentDownloadsReached_responseStatusIs503()
+            throws IOException {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_MAX_CONCURRENT_DOWNLOADS,
+                "1");
+        session.setConfiguration(configuration);
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new CapturingServletOutputStream());
+        VaadinServletResponse secondResponse = Mockito
+                .mock(VaadinServletResponse.class);
+
+        StreamResource second = new StreamResource("second.md",
+                () -> new ByteArrayInputStream(new byte[0]));
+        StreamResource first = new StreamResource("first.md",
+                (StreamResourceWriter) (stream, vaadinSession) -> handler
+                        .handleRequest(session, request, secondResponse,
+                                second));
+
+        handler.handleRequest(session, request, response, first);
+
+        Mockito.verify(secondResponse)
+                .setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        Assert.assertEquals(1, handler.getRejectedDownloadCount());
+    }
 }
@@ -240,6 +240,19 @@ public class PublishedServerEventHandlerRpcHandlerTest {
         Assert.assertTrue(component.isInvoked);
     }
 
+    @Test
+    public void methodInvokedOnSeveralInstances_eachInstanceInvoked() {
+        ComponentWithMethod first = new ComponentWithMethod();
+        ComponentWithMethod second = new ComponentWithMethod();
+        PublishedServerEventHandlerRpcHandler.invokeMethod(first,
+                first.getClass(), "method", Json.createArray(), -1);
+        PublishedServerEventHandlerRpcHandler.invokeMethod(second,
+                second.getClass(), "method", Json.createArray(), -1);
+
+        Assert.assertTrue(first.isInvoked);
+        Assert.assertTrue(second.isInvoked);
+    }
+
     @Test
     public void methodIsInvokedOnCompositeContent() {
         CompositeOfComponentWithMethod composite = new CompositeOfComponentWithMethod();
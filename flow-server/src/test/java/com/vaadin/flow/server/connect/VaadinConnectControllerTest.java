@@ -665,6 +665,24 @@ public class VaadinConnectControllerTest {
                 response.getBody());
     }
 
+    @Test
+    public void should_ReturnCorrectResponse_When_MethodIsCalledRepeatedly() {
+        VaadinConnectController controller = createVaadinController(
+                TEST_ENDPOINT);
+
+        for (int inputValue : new int[] { 222, 333 }) {
+            ResponseEntity<String> response = controller.serveEndpoint(
+                    TEST_ENDPOINT_NAME, TEST_METHOD.getName(),
+                    createRequestParameters(
+                            String.format("{\"value\": %s}", inputValue)),
+                    requestMock);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(String.format("\"%s\"",
+                    TEST_ENDPOINT.testMethod(inputValue)), response.getBody());
+        }
+    }
+
     @Test
     public void should_ReturnCorrectResponse_When_EndpointClassIsProxied() {
 
@@ -3,9 +3,17 @@ package com.vaadin.flow.server.frontend;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.junit.Assert;
@@ -141,6 +149,148 @@ public class NodeTasksTest {
                 .forEach(name -> assertTrue(name + " not created.", new File(dir, name).exists()));
     }
 
+    @Test
+    public void should_GenerateSameFiles_When_RunSequentially()
+            throws Exception {
+        File sequentialDir = temporaryFolder.newFolder("sequential");
+        File parallelDir = temporaryFolder.newFolder("parallel");
+
+        createConnectBuilder(sequentialDir).withParallelism(1).build()
+                .execute();
+        createConnectBuilder(parallelDir).withParallelism(4).build()
+                .execute();
+
+        for (String name : Arrays.asList("target/index.html",
+                "target/index.ts", "api-file.json",
+                "api/connect-client.default.ts", "api/MyEndpoint.ts",
+                DEFAULT_GENERATED_DIR + IMPORTS_NAME)) {
+            File sequentialFile = new File(sequentialDir, name);
+            File parallelFile = new File(parallelDir, name);
+            assertTrue(name + " not created.", sequentialFile.exists());
+            assertTrue(name + " not created.", parallelFile.exists());
+            Assert.assertEquals(name + " differs.",
+                    readContent(sequentialFile, sequentialDir),
+                    readContent(parallelFile, parallelDir));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_CopyLocalResourcesAfterJarResources()
+            throws Exception {
+        File dir = new File(userDir);
+        NodeTasks tasks = new Builder(
+                new DefaultClassFinder(this.getClass().getClassLoader()), dir)
+                        .enablePackagesUpdate(false).enableImportsUpdate(false)
+                        .withEmbeddableWebComponents(false)
+                        .withFlowResourcesFolder(new File(dir, "flow"))
+                        .copyResources(Collections.emptySet())
+                        .copyLocalResources(new File(dir, "local"))
+                        .build();
+
+        Map<FallibleCommand, List<FallibleCommand>> commands = (Map<FallibleCommand, List<FallibleCommand>>) getFieldValue(
+                tasks, "commands");
+        FallibleCommand jarCopy = commands.keySet().stream()
+                .filter(TaskCopyFrontendFiles.class::isInstance).findFirst()
+                .get();
+        FallibleCommand localCopy = commands.keySet().stream()
+                .filter(TaskCopyLocalFrontendFiles.class::isInstance)
+                .findFirst().get();
+
+        assertTrue(commands.get(localCopy).contains(jarCopy));
+    }
+
+    @Test
+    public void execute_dependentCommand_runsAfterDependencyCompleted()
+            throws Exception {
+        List<String> executed = Collections
+                .synchronizedList(new ArrayList<>());
+        CountDownLatch independentExecuted = new CountDownLatch(1);
+        AtomicBoolean ranConcurrently = new AtomicBoolean();
+
+        FallibleCommand first = () -> {
+            try {
+                ranConcurrently.set(
+                        independentExecuted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.add("first");
+        };
+        FallibleCommand dependent = () -> executed.add("dependent");
+        FallibleCommand independent = () -> {
+            executed.add("independent");
+            independentExecuted.countDown();
+        };
+
+        Map<FallibleCommand, List<FallibleCommand>> commands = new LinkedHashMap<>();
+        commands.put(first, Collections.emptyList());
+        commands.put(dependent, Collections.singletonList(first));
+        commands.put(independent, Collections.emptyList());
+
+        new NodeTasks(commands, 2).execute();
+
+        assertTrue(ranConcurrently.get());
+        Assert.assertEquals(Arrays.asList("independent", "first", "dependent"),
+                executed);
+    }
+
+    @Test
+    public void execute_failedCommand_dependentsSkippedAndFailureThrown() {
+        List<String> executed = Collections
+                .synchronizedList(new ArrayList<>());
+        ExecutionFailedException failure = new ExecutionFailedException(
+                "failed");
+
+        FallibleCommand failing = () -> {
+            throw failure;
+        };
+        FallibleCommand dependent = () -> executed.add("dependent");
+        FallibleCommand transitive = () -> executed.add("transitive");
+        FallibleCommand independent = () -> executed.add("independent");
+
+        Map<FallibleCommand, List<FallibleCommand>> commands = new LinkedHashMap<>();
+        commands.put(failing, Collections.emptyList());
+        commands.put(dependent, Collections.singletonList(failing));
+        commands.put(transitive, Collections.singletonList(dependent));
+        commands.put(independent, Collections.emptyList());
+
+        try {
+            new NodeTasks(commands, 2).execute();
+            Assert.fail("Failure of the task was not thrown");
+        } catch (ExecutionFailedException e) {
+            Assert.assertSame(failure, e);
+        }
+        Assert.assertEquals(Collections.singletonList("independent"),
+                executed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withParallelism_zero_throws() {
+        new Builder(new DefaultClassFinder(getClass().getClassLoader()),
+                new File(userDir)).withParallelism(0);
+    }
+
+    private Builder createConnectBuilder(File dir) {
+        File src = new File(
+                getClass().getClassLoader().getResource("java").getFile());
+        return new Builder(
+                new DefaultClassFinder(
+                        Collections.singleton(ConnectEndpointsForTesting.class)),
+                dir).enablePackagesUpdate(false).enableImportsUpdate(true)
+                        .runNpmInstall(false).withEmbeddableWebComponents(false)
+                        .withConnectJavaSourceFolder(src)
+                        .withConnectGeneratedOpenApiJson(
+                                new File(dir, "api-file.json"))
+                        .withConnectClientTsApiFolder(new File(dir, "api"));
+    }
+
+    private static String readContent(File file, File dir)
+            throws IOException {
+        return new String(Files.readAllBytes(file.toPath()),
+                StandardCharsets.UTF_8).replace(dir.getAbsolutePath(), "");
+    }
+
     private Object getFieldValue(Object obj, String name) throws Exception {
         Field field = obj.getClass().getDeclaredField(name);
         field.setAccessible(true);
@@ -19,11 +19,13 @@ package com.vaadin.flow.server.frontend;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -77,6 +79,36 @@ public class TaskCopyFrontendFilesTest extends NodeUpdateTestUtil {
         Assert.assertFalse(deps.hasKey("@vaadin/flow-deps"));
     }
 
+    @Test
+    public void should_restoreModifiedFiles_when_jarUnchanged()
+            throws IOException {
+        File jar = TestUtils.getTestJar("jar-with-frontend-resources.jar");
+        new TaskCopyFrontendFiles(frontendDepsFolder, jars(jar)).execute();
+        File css = new File(frontendDepsFolder, "inline.css");
+        String original = FileUtils.readFileToString(css,
+                StandardCharsets.UTF_8);
+
+        FileUtils.writeStringToFile(css, "modified", StandardCharsets.UTF_8);
+        new TaskCopyFrontendFiles(frontendDepsFolder, jars(jar)).execute();
+
+        Assert.assertEquals(original,
+                FileUtils.readFileToString(css, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void should_notRewriteFiles_when_jarUnchanged() throws IOException {
+        File jar = TestUtils.getTestJar("jar-with-frontend-resources.jar");
+        new TaskCopyFrontendFiles(frontendDepsFolder, jars(jar)).execute();
+        File js = new File(frontendDepsFolder, "ExampleConnector.js");
+        long lastModified = js.lastModified();
+
+        new TaskCopyFrontendFiles(frontendDepsFolder, jars(jar)).execute();
+
+        Assert.assertEquals(lastModified, js.lastModified());
+        Assert.assertEquals(2,
+                TestUtils.listFilesRecursively(frontendDepsFolder).size());
+    }
+
     private void should_collectJsAndCssFilesFromJars(String jarFile,
             String fsDir) throws IOException {
 
@@ -10,7 +10,9 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -91,4 +93,48 @@ public class TaskGenerateConnectTest {
         assertThat(outputEndpoinTs1, containsString("import client from '../connect-client'"));
         assertThat(outputEndpoinTs1, containsString("import client from '../connect-client'"));
     }
+
+    @Test
+    public void should_skipGeneration_when_inputAndOutputUnchanged()
+            throws Exception {
+        File openApi = new File(temporaryFolder.newFolder(), "openapi.json");
+        FileUtils.copyFile(openApiJson, openApi);
+        File ts1 = new File(outputDirectory, "FooBarEndpoint.ts");
+        File frontendDirectory = outputDirectory.getParentFile();
+
+        taskGenerateConnectTs = new TaskGenerateConnect(properties, openApi,
+                outputDirectory, frontendDirectory);
+        taskGenerateConnectTs.execute();
+        assertTrue(ts1.setLastModified(1000));
+
+        taskGenerateConnectTs.execute();
+        assertEquals(1000, ts1.lastModified());
+
+        FileUtils.writeStringToFile(properties,
+                "vaadin.endpoint.prefix=/api", "UTF-8");
+        taskGenerateConnectTs.execute();
+        assertNotEquals(1000, ts1.lastModified());
+    }
+
+    @Test
+    public void should_generateAgain_when_outputModified() throws Exception {
+        File openApi = new File(temporaryFolder.newFolder(), "openapi.json");
+        FileUtils.copyFile(openApiJson, openApi);
+        File ts1 = new File(outputDirectory, "FooBarEndpoint.ts");
+        File ts2 = new File(outputDirectory, "FooFooEndpoint.ts");
+        File frontendDirectory = outputDirectory.getParentFile();
+
+        taskGenerateConnectTs = new TaskGenerateConnect(properties, openApi,
+                outputDirectory, frontendDirectory);
+        taskGenerateConnectTs.execute();
+
+        FileUtils.writeStringToFile(ts1, "edited", "UTF-8");
+        taskGenerateConnectTs.execute();
+        assertThat(FileUtils.readFileToString(ts1, "UTF-8"),
+                containsString("FooBarEndpoint"));
+
+        assertTrue(ts2.delete());
+        taskGenerateConnectTs.execute();
+        assertTrue(ts2.exists());
+    }
 }
@@ -17,6 +17,8 @@ package com.vaadin.flow.server.frontend;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -179,6 +181,47 @@ public class TaskGenerateOpenApiTest {
         Assert.assertFalse(generatedOpenAPI.getPaths().containsKey("/EndpointNoValue/foo"));
     }
 
+    @Test
+    public void should_skipGeneration_when_classFoldersUnchanged()
+            throws Exception {
+        File classFolder = temporaryFolder.newFolder("classes");
+        File classFile = new File(classFolder, "MyEndpoint.class");
+        FileUtils.writeStringToFile(classFile, "compiled",
+                StandardCharsets.UTF_8);
+        URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { classFolder.toURI().toURL() },
+                getClass().getClassLoader());
+
+        taskGenerateOpenApi = new TaskGenerateOpenApi(applicationPropertiesFile,
+                javaSource, classLoader, generatedOpenAPI);
+        taskGenerateOpenApi.execute();
+        Assert.assertTrue(generatedOpenAPI.setLastModified(1000));
+
+        taskGenerateOpenApi.execute();
+        Assert.assertEquals(1000, generatedOpenAPI.lastModified());
+
+        FileUtils.writeStringToFile(classFile, "compiled again",
+                StandardCharsets.UTF_8);
+        taskGenerateOpenApi.execute();
+        Assert.assertNotEquals(1000, generatedOpenAPI.lastModified());
+    }
+
+    @Test
+    public void should_generateAlways_when_classPathUnknown()
+            throws Exception {
+        ClassLoader classLoader = new ClassLoader(
+                getClass().getClassLoader()) {
+        };
+
+        taskGenerateOpenApi = new TaskGenerateOpenApi(applicationPropertiesFile,
+                javaSource, classLoader, generatedOpenAPI);
+        taskGenerateOpenApi.execute();
+        Assert.assertTrue(generatedOpenAPI.setLastModified(1000));
+
+        taskGenerateOpenApi.execute();
+        Assert.assertNotEquals(1000, generatedOpenAPI.lastModified());
+    }
+
     private OpenAPI getGeneratedOpenAPI() throws IOException {
         OpenAPIV3Parser parser = new OpenAPIV3Parser();
         return parser.read(generatedOpenAPI.getAbsolutePath());
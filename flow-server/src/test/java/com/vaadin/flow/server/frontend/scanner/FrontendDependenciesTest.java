@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.server.frontend.scanner;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,7 +29,9 @@ import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.Component;
@@ -49,6 +54,9 @@ import static org.hamcrest.CoreMatchers.is;
 
 public class FrontendDependenciesTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ClassFinder classFinder = Mockito.mock(ClassFinder.class);
 
     @Before
@@ -200,6 +208,48 @@ public class FrontendDependenciesTest {
         Assert.assertNotNull(dependencies.getThemeDefinition());
     }
 
+    @Test
+    public void scanCacheFile_resultsStoredAndReused() throws Exception {
+        Mockito.when(classFinder.getAnnotatedClasses(Route.class))
+                .thenReturn(Collections.singleton(RouteComponent.class));
+        File cacheFile = new File(temporaryFolder.getRoot(), "scan-cache");
+
+        FrontendDependencies dependencies = new FrontendDependencies(
+                classFinder, false, cacheFile);
+        Assert.assertTrue(cacheFile.isFile());
+        Assert.assertEquals(0, dependencies.getReusedClassCount());
+
+        FrontendDependencies cachedDependencies = new FrontendDependencies(
+                classFinder, false, cacheFile);
+
+        Assert.assertEquals(dependencies.getModules(),
+                cachedDependencies.getModules());
+        Assert.assertEquals(dependencies.getScripts(),
+                cachedDependencies.getScripts());
+        Assert.assertEquals(dependencies.getClasses(),
+                cachedDependencies.getClasses());
+        Assert.assertTrue(cachedDependencies.getReusedClassCount() > 0);
+        Assert.assertEquals(cachedDependencies.getReusedClassCount(),
+                new FrontendDependencies(classFinder, false, cacheFile)
+                        .getReusedClassCount());
+    }
+
+    @Test
+    public void scanCacheFile_corruptedFileIgnored() throws Exception {
+        Mockito.when(classFinder.getAnnotatedClasses(Route.class))
+                .thenReturn(Collections.singleton(RouteComponent.class));
+        File cacheFile = temporaryFolder.newFile("scan-cache");
+        Files.write(cacheFile.toPath(),
+                "not a cache".getBytes(StandardCharsets.UTF_8));
+
+        FrontendDependencies dependencies = new FrontendDependencies(
+                classFinder, false, cacheFile);
+
+        Assert.assertEquals(Collections.singletonList("foo.js"),
+                dependencies.getModules());
+        Assert.assertEquals(0, dependencies.getReusedClassCount());
+    }
+
     public static class MyComponent extends Component {
     }
 
@@ -1,5 +1,7 @@
 package com.vaadin.flow.templatemodel;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -29,6 +31,22 @@ public class TemplateModelProxyHandlerTest extends HasCurrentService {
         }
     }
 
+    public static class ThrowingBean {
+        private static final AtomicInteger instances = new AtomicInteger();
+
+        public ThrowingBean() {
+            instances.incrementAndGet();
+            throw new IllegalStateException("Simulated");
+        }
+
+        public int getValue() {
+            return 0;
+        }
+
+        public void setValue(int value) {
+        }
+    }
+
     public static class TestModelType extends BeanModelType<Model> {
 
         public TestModelType() {
@@ -158,6 +176,59 @@ public class TemplateModelProxyHandlerTest extends HasCurrentService {
                 TemplateModelTest.EmptyModel.class.getCanonicalName()));
     }
 
+    @Test
+    public void accessorsInvokedRepeatedly_methodsResolvedOnce() {
+        EmptyModelTemplate template = new EmptyModelTemplate();
+        BeanModelType<Bean> modelType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+
+        Bean proxy = TemplateModelProxyHandler.createModelProxy(
+                template.getElement().getNode(), modelType);
+        proxy.setIntValue(1);
+        Assert.assertEquals(1, proxy.getIntValue());
+        proxy.setIntValue(2);
+        Assert.assertEquals(2, proxy.getIntValue());
+
+        Assert.assertEquals(2, modelType.getProxyMethods().size());
+    }
+
+    @Test
+    public void preloadProxyTypes_nestedBeanTypesUsable() {
+        TemplateModelProxyHandler.preloadProxyTypes(new BeanModelType<>(
+                BeanContainingBeans.class, PropertyFilter.ACCEPT_ALL, false));
+
+        EmptyModelTemplate template = new EmptyModelTemplate();
+        BeanModelType<Bean> modelType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+        Bean first = TemplateModelProxyHandler
+                .createModelProxy(template.getElement().getNode(), modelType);
+        Bean second = TemplateModelProxyHandler.createModelProxy(
+                new EmptyModelTemplate().getElement().getNode(), modelType);
+
+        Assert.assertTrue(
+                first instanceof TemplateModelProxyHandler.ModelProxy);
+        Assert.assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test
+    public void constructorThrows_exceptionRethrownAndConstructorRunOnce() {
+        EmptyModelTemplate template = new EmptyModelTemplate();
+        BeanModelType<ThrowingBean> modelType = new BeanModelType<>(
+                ThrowingBean.class, PropertyFilter.ACCEPT_ALL, false);
+        int instancesBefore = ThrowingBean.instances.get();
+
+        try {
+            TemplateModelProxyHandler.createModelProxy(
+                    template.getElement().getNode(), modelType);
+            Assert.fail("Exception from the constructor should be rethrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Simulated", e.getMessage());
+        }
+
+        Assert.assertEquals(instancesBefore + 1,
+                ThrowingBean.instances.get());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void beanHasNoProperties_throwsException() {
         new BeanModelType<>(Model.class, PropertyFilter.ACCEPT_ALL, false);